@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isFinal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Generates at build time the soft assertion proxies of the built-in assert classes, see the {@code soft-proxies-aot}
+ * profile of assertj-core.
+ * <p>
+ * The proxies are written next to the compiled assert classes so that they are packaged in the jar, {@link SoftProxies}
+ * loads them instead of generating them on first use.
+ * <p>
+ * This class lives in its own source set so that it is not shipped with assertj-core, the profile compiles it once the
+ * classes are compiled and runs it with the compile classpath.
+ */
+public final class SoftProxiesGenerator {
+
+  private static final String ASSERT_CLASS_FILE_SUFFIX = "Assert.class";
+  private static final String PROXY_CLASS_FILE_MARKER = "$ByteBuddy$SoftProxy";
+
+  private SoftProxiesGenerator() {}
+
+  /**
+   * Generates the proxies of the built-in assert classes.
+   *
+   * @param args the compiled classes directory, the generated proxies are written in it.
+   * @throws IOException if the compiled classes can't be listed or the proxies can't be written.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) throw new IllegalArgumentException("Expecting the compiled classes directory as only argument");
+    Path classesDirectory = Path.of(args[0]);
+    deletePreviousProxies(classesDirectory);
+    List<Class<?>> assertClasses = builtInAssertClasses(classesDirectory);
+    for (Class<?> assertClass : assertClasses) {
+      generateProxy(assertClass, classesDirectory);
+    }
+    System.out.printf("Generated %d soft assertion proxies in %s%n", assertClasses.size(), classesDirectory);
+  }
+
+  // writes the proxy class file under the name SoftProxies looks up before generating a proxy
+  private static void generateProxy(Class<?> assertClass, Path classesDirectory) throws IOException {
+    SoftProxies.proxyClassBuilder(assertClass)
+               .name(SoftProxies.precompiledProxyClassName(assertClass))
+               .make()
+               .saveIn(classesDirectory.toFile());
+  }
+
+  // the auxiliary classes of the proxies have random names, the ones of a previous build would not be overwritten
+  private static void deletePreviousProxies(Path classesDirectory) throws IOException {
+    List<Path> proxyClassFiles;
+    try (Stream<Path> classFiles = Files.list(packageDirectory(classesDirectory))) {
+      proxyClassFiles = classFiles.filter(classFile -> classFile.getFileName().toString().contains(PROXY_CLASS_FILE_MARKER))
+                                  .toList();
+    }
+    for (Path proxyClassFile : proxyClassFiles) {
+      Files.delete(proxyClassFile);
+    }
+  }
+
+  // concrete top level assert classes that can be subclassed, which covers every assert class that is proxied
+  private static List<Class<?>> builtInAssertClasses(Path classesDirectory) throws IOException {
+    String packageName = SoftProxiesGenerator.class.getPackageName();
+    try (Stream<Path> classFiles = Files.list(packageDirectory(classesDirectory))) {
+      return classFiles.map(classFile -> classFile.getFileName().toString())
+                       .filter(fileName -> fileName.endsWith(ASSERT_CLASS_FILE_SUFFIX) && !fileName.contains("$"))
+                       .sorted()
+                       .<Class<?>> map(fileName -> loadClass(packageName + "." + fileName.substring(0, fileName.length() - ".class".length())))
+                       .filter(SoftProxiesGenerator::isProxiable)
+                       .toList();
+    }
+  }
+
+  private static Path packageDirectory(Path classesDirectory) {
+    return classesDirectory.resolve(SoftProxiesGenerator.class.getPackageName().replace('.', '/'));
+  }
+
+  private static Class<?> loadClass(String className) {
+    try {
+      return Class.forName(className, false, SoftProxiesGenerator.class.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException("Failed to load " + className, e);
+    }
+  }
+
+  private static boolean isProxiable(Class<?> assertClass) {
+    int modifiers = assertClass.getModifiers();
+    return AbstractAssert.class.isAssignableFrom(assertClass)
+           && !assertClass.isInterface() && !isAbstract(modifiers) && !isFinal(modifiers);
+  }
+}
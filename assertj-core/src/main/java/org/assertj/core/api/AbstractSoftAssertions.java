@@ -13,6 +13,7 @@
 package org.assertj.core.api;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.assertj.core.error.AssertionErrorCreator;
 import org.assertj.core.internal.Failures;
@@ -56,8 +57,7 @@ public abstract class AbstractSoftAssertions extends DefaultAssertionErrorCollec
    */
   @CanIgnoreReturnValue
   public <T> T fail(String failureMessage) {
-    AssertionError error = Failures.instance().failure(failureMessage);
-    collectAssertionError(error);
+    collectFailure(() -> Failures.instance().failure(failureMessage));
     return null;
   }
 
@@ -100,9 +100,11 @@ public abstract class AbstractSoftAssertions extends DefaultAssertionErrorCollec
    */
   @CanIgnoreReturnValue
   public <T> T fail(String failureMessage, Throwable realCause) {
-    AssertionError error = Failures.instance().failure(failureMessage);
-    error.initCause(realCause);
-    collectAssertionError(error);
+    collectFailure(() -> {
+      AssertionError error = Failures.instance().failure(failureMessage);
+      error.initCause(realCause);
+      return error;
+    });
     return null;
   }
 
@@ -147,8 +149,17 @@ public abstract class AbstractSoftAssertions extends DefaultAssertionErrorCollec
    * @since 2.6.0 / 3.6.0
    */
   public void shouldHaveThrown(Class<? extends Throwable> throwableClass) {
-    AssertionError error = Failures.instance().expectedThrowableNotThrown(throwableClass);
-    collectAssertionError(error);
+    collectFailure(() -> Failures.instance().expectedThrowableNotThrown(throwableClass));
+  }
+
+  // collected errors are reported, they must be fully created even when failing in a probe (e.g. in filteredOnAssertions)
+  private void collectFailure(Supplier<AssertionError> failure) {
+    boolean probing = Failures.suspendProbing();
+    try {
+      collectAssertionError(failure.get());
+    } finally {
+      Failures.resumeProbing(probing);
+    }
   }
 
   /**
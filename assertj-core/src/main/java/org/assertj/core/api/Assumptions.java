@@ -82,6 +82,7 @@ import org.assertj.core.api.ClassLoadingStrategyFactory.ClassLoadingStrategyPair
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.configuration.PreferredAssumptionException;
+import org.assertj.core.internal.Failures;
 import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.Throwables;
 
@@ -119,6 +120,8 @@ public class Assumptions {
 
     @RuntimeType
     public static Object intercept(@This AbstractAssert<?, ?> assertion, @SuperCall Callable<Object> proxy) throws Exception {
+      // the assumption failure reports the assertion error, it must be fully created
+      boolean probing = Failures.suspendProbing();
       try {
         Object result = proxy.call();
         if (result != assertion && result instanceof AbstractAssert<?, ?> abstractAssert) {
@@ -127,6 +130,8 @@ public class Assumptions {
         return result;
       } catch (AssertionError e) {
         throw assumptionNotMet(e);
+      } finally {
+        Failures.resumeProbing(probing);
       }
     }
   }
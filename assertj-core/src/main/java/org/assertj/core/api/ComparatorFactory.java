@@ -17,6 +17,7 @@ import java.util.Comparator;
 
 import org.assertj.core.internal.Doubles;
 import org.assertj.core.internal.Floats;
+import org.assertj.core.internal.NonTransitiveComparator;
 
 public class ComparatorFactory {
 
@@ -24,7 +25,7 @@ public class ComparatorFactory {
 
   public Comparator<Double> doubleComparatorWithPrecision(double precision) {
     // can't use <> with anonymous class in java 8
-    return new Comparator<Double>() {
+    return new NonTransitiveComparator<Double>() {
 
       @Override
       public int compare(Double double1, Double double2) {
@@ -48,7 +49,7 @@ public class ComparatorFactory {
 
   public Comparator<Float> floatComparatorWithPrecision(float precision) {
     // can't use <> with anonymous class in java 8
-    return new Comparator<Float>() {
+    return new NonTransitiveComparator<Float>() {
 
       @Override
       public int compare(Float float1, Float float2) {
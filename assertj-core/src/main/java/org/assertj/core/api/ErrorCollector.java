@@ -13,9 +13,10 @@
 package org.assertj.core.api;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.concurrent.Callable;
 
+import org.assertj.core.internal.Failures;
+
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.StubValue;
@@ -30,6 +31,7 @@ public class ErrorCollector {
 
   private static final String INTERCEPT_METHOD_NAME = "intercept";
   private static final String CLASS_NAME = ErrorCollector.class.getName();
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
 
   private AssertionErrorCollector assertionErrorCollector;
 
@@ -52,6 +54,8 @@ public class ErrorCollector {
                                  @SuperCall Callable<?> proxy,
                                  @SuperMethod(nullIfImpossible = true) Method method,
                                  @StubValue Object stub) throws Exception {
+    // collected errors are reported, they must be fully created
+    boolean probing = Failures.suspendProbing();
     try {
       Object result = proxy.call();
       errorCollector.succeeded();
@@ -62,6 +66,8 @@ public class ErrorCollector {
         throw assertionError;
       }
       errorCollector.addError(assertionError);
+    } finally {
+      Failures.resumeProbing(probing);
     }
     if (method != null && !method.getReturnType().isInstance(assertion)) {
       // In case the object is not an instance of the return type, just default value for the return type:
@@ -84,9 +90,11 @@ public class ErrorCollector {
   }
 
   private static long countErrorCollectorProxyCalls() {
-    return Arrays.stream(Thread.currentThread().getStackTrace())
-                 .filter(stackTraceElement -> CLASS_NAME.equals(stackTraceElement.getClassName())
-                                              && stackTraceElement.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
-                 .count();
+    // only the frames of the current thread are walked, stopping as soon as a nested call is detected, instead of
+    // capturing the whole stack trace for each collected error.
+    return STACK_WALKER.walk(frames -> frames.filter(frame -> CLASS_NAME.equals(frame.getClassName())
+                                                             && frame.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
+                                             .limit(2)
+                                             .count());
   }
 }
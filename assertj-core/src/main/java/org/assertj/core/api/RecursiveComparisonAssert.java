@@ -23,6 +23,7 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 import org.assertj.core.api.recursive.comparison.ComparisonDifference;
 import org.assertj.core.api.recursive.comparison.LegacyRecursiveComparisonIntrospectionStrategy;
@@ -1244,6 +1245,52 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Makes the recursive comparison to ignore collection order in all fields of the object under test, the elements of unordered
+   * collections of the given type being matched by the key computed with the given function before being compared recursively.
+   * <p>
+   * Elements are indexed once by key which makes comparing large collections near-linear instead of comparing each actual
+   * element to each expected element, note that elements with different keys are never compared. The function is only applied
+   * to collections whose non-null elements are all instances of the given type (null elements having a null key), the elements
+   * of other collections are matched by hash code.
+   * <p>
+   * Like when collection order is ignored, each expected element is matched in turn with an actual element it is equal to and
+   * that is not already matched, other pairings are not tried. Comparing elements with a tolerance (for example with
+   * {@link #withComparatorForType(Comparator, Class)}) can thus fail even though another pairing would have matched all
+   * elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> class Person {
+   *   long id;
+   *   String name;
+   *   List&lt;Person&gt; friends = new ArrayList&lt;&gt;();
+   * }
+   *
+   * Person sherlock1 = new Person(1, "Sherlock Holmes");
+   * sherlock1.friends.add(new Person(2, "Dr. John Watson"));
+   * sherlock1.friends.add(new Person(3, "Molly Hooper"));
+   *
+   * Person sherlock2 = new Person(1, "Sherlock Holmes");
+   * sherlock2.friends.add(new Person(3, "Molly Hooper"));
+   * sherlock2.friends.add(new Person(2, "Dr. John Watson"));
+   *
+   * // assertion succeeds as friends are matched by id and then compared field by field
+   * assertThat(sherlock1).usingRecursiveComparison()
+   *                      .ignoringCollectionOrderMatchingBy(person -&gt; person.id, Person.class)
+   *                      .isEqualTo(sherlock2);</code></pre>
+   *
+   * @param <T> the type of the collections elements
+   * @param matchingKeyExtractor the function computing the key actual and expected elements are matched by.
+   * @param type the type of the collections elements the function applies to.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws NullPointerException if the given function or type is null.
+   */
+  @CheckReturnValue
+  public <T> SELF ignoringCollectionOrderMatchingBy(Function<? super T, ?> matchingKeyExtractor, Class<T> type) {
+    recursiveComparisonConfiguration.ignoreCollectionOrderMatchingBy(matchingKeyExtractor, type);
+    return myself;
+  }
+
   /**
    * Makes the recursive comparison to ignore array order in all fields of the object under test.
    * <p>
@@ -1847,6 +1894,32 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Makes the recursive comparison compare independent subtrees of the object graphs in parallel using as many threads as
+   * available processors, this is only worth it for very large object graphs.
+   * <p>
+   * The differences reported are the same as the ones reported by the sequential comparison, if subtrees turn out to
+   * share some nodes the comparison falls back to be sequential as the differences reported depend on the order nodes
+   * are visited. Comparing specific types with {@link #comparingOnlyFieldsOfTypes(Class[])} is always done sequentially.
+   * <p>
+   * Note that custom comparators, equals and introspection strategies must be thread safe to compare values in parallel.
+   * <p>
+   * Example:
+   * <pre><code class='java'> PriceSnapshot actual = pricingEngine.snapshot();
+   * PriceSnapshot expected = referenceSnapshot();
+   *
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .inParallel()
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    recursiveComparisonConfiguration.setParallelism(Runtime.getRuntime().availableProcessors());
+    return myself;
+  }
+
   SELF withTypeComparators(TypeComparators typeComparators) {
     Optional.ofNullable(typeComparators)
             .map(TypeComparators::comparatorByTypes)
@@ -14,6 +14,8 @@ package org.assertj.core.api;
 
 import java.util.function.Consumer;
 
+import org.assertj.core.internal.Failures;
+
 import org.opentest4j.MultipleFailuresError;
 
 /**
@@ -72,6 +74,8 @@ public interface SoftAssertionsProvider extends AssertionErrorCollector {
    * @param assertion an assertion call.
    */
   default void check(ThrowingRunnable assertion) {
+    // collected errors are reported, they must be fully created
+    boolean probing = Failures.suspendProbing();
     try {
       assertion.run();
       succeeded();
@@ -81,6 +85,8 @@ public interface SoftAssertionsProvider extends AssertionErrorCollector {
       throw runtimeException;
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      Failures.resumeProbing(probing);
     }
   }
 
@@ -22,6 +22,7 @@ import static org.assertj.core.api.ClassLoadingStrategyFactory.classLoadingStrat
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.ClassLoadingStrategyFactory.ClassLoadingStrategyPair;
@@ -33,6 +34,7 @@ import net.bytebuddy.TypeCache.SimpleKey;
 import net.bytebuddy.TypeCache.Sort;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.Implementation;
@@ -111,6 +113,10 @@ class SoftProxies {
   private static final Implementation PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST = MethodDelegation.to(ProxifyMethodChangingTheObjectUnderTest.class);
   private static final Implementation ERROR_COLLECTOR = MethodDelegation.to(ErrorCollector.class);
 
+  // precompiled proxies keep the "$ByteBuddy$" marker used to find the test line of soft assertion errors
+  private static final String PRECOMPILED_PROXY_SUFFIX = "$ByteBuddy$SoftProxy";
+  private static final String BUILT_IN_ASSERTS_PACKAGE = SoftProxies.class.getPackageName() + ".";
+
   private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
 
   private ErrorCollector collector;
@@ -138,7 +144,7 @@ class SoftProxies {
   private static <ASSERT extends Assert<?, ?>> Class<ASSERT> createSoftAssertionProxyClass(Class<ASSERT> assertClass) {
     SimpleKey cacheKey = new SimpleKey(assertClass);
     return (Class<ASSERT>) CACHE.findOrInsert(assertClass.getClassLoader(), cacheKey,
-                                              () -> generateProxyClass(assertClass));
+                                              () -> precompiledProxyClass(assertClass).orElseGet(() -> generateProxyClass(assertClass)));
   }
 
   FileSizeAssert<?> createFileSizeAssertProxy(FileSizeAssert<?> fileSizeAssert) {
@@ -206,6 +212,12 @@ class SoftProxies {
 
   static <V> Class<? extends V> generateProxyClass(Class<V> assertClass) {
     ClassLoadingStrategyPair strategy = classLoadingStrategy(assertClass);
+    return proxyClassBuilder(assertClass).make()
+                                         .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
+                                         .getLoaded();
+  }
+
+  static <V> DynamicType.Builder<V> proxyClassBuilder(Class<V> assertClass) {
     return BYTE_BUDDY.subclass(assertClass)
                      .defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
                                   ProxifyMethodChangingTheObjectUnderTest.class,
@@ -219,10 +231,32 @@ class SoftProxies {
                      .implement(AssertJProxySetup.class)
                      // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
                      .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
-                                             .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)))
-                     .make()
-                     .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
-                     .getLoaded();
+                                             .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)));
+  }
+
+  static String precompiledProxyClassName(Class<?> assertClass) {
+    return assertClass.getName() + PRECOMPILED_PROXY_SUFFIX;
+  }
+
+  /**
+   * Loads the proxy class generated at build time by {@code SoftProxiesGenerator} for a built-in assert class, if any.
+   * <p>
+   * Proxies are only precompiled when AssertJ is built with the {@code soft-proxies-aot} profile, other assert classes
+   * (including user-defined ones) always have their proxy generated at runtime.
+   */
+  @SuppressWarnings("unchecked")
+  static <V> Optional<Class<? extends V>> precompiledProxyClass(Class<V> assertClass) {
+    if (!assertClass.getName().startsWith(BUILT_IN_ASSERTS_PACKAGE)) return Optional.empty();
+    try {
+      Class<?> proxyClass = Class.forName(precompiledProxyClassName(assertClass), true, assertClass.getClassLoader());
+      // guard against a proxy that was not generated for this assert class
+      if (proxyClass.getSuperclass() != assertClass || !AssertJProxySetup.class.isAssignableFrom(proxyClass)) {
+        return Optional.empty();
+      }
+      return Optional.of((Class<? extends V>) proxyClass);
+    } catch (@SuppressWarnings("unused") ClassNotFoundException | LinkageError ignored) {
+      return Optional.empty();
+    }
   }
 
   private static Junction<MethodDescription> methodsNamed(String... names) {
@@ -13,6 +13,7 @@
 package org.assertj.core.api;
 
 import org.assertj.core.description.Description;
+import org.assertj.core.internal.Failures;
 import org.assertj.core.util.CheckReturnValue;
 
 /**
@@ -42,10 +43,14 @@ public class SoftThrowableTypeAssert<T extends Throwable> extends ThrowableTypeA
 
   @Override
   protected void checkThrowableType(Throwable throwable) {
+    // collected errors are reported, they must be fully created
+    boolean probing = Failures.suspendProbing();
     try {
       super.checkThrowableType(throwable);
     } catch (AssertionError error) {
       this.softAssertionsProvider.collectAssertionError(error);
+    } finally {
+      Failures.resumeProbing(probing);
     }
   }
 
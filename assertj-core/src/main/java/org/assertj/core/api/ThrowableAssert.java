@@ -16,6 +16,7 @@ import static org.assertj.core.error.ShouldBeInstance.shouldBeInstance;
 
 import java.util.concurrent.Callable;
 
+import org.assertj.core.internal.Failures;
 import org.assertj.core.util.Throwables;
 
 /**
@@ -89,10 +90,14 @@ public class ThrowableAssert<ACTUAL extends Throwable> extends AbstractThrowable
    * @see #catchThrowableOfType(Class, ThrowingCallable)
    */
   public static Throwable catchThrowable(ThrowingCallable shouldRaiseThrowable) {
+    // the caught throwable is looked at, if it is an assertion error it must be fully created
+    boolean probing = Failures.suspendProbing();
     try {
       shouldRaiseThrowable.call();
     } catch (Throwable throwable) {
       return throwable;
+    } finally {
+      Failures.resumeProbing(probing);
     }
     throw new AssertionError("Expecting code to raise a Throwable");
   }
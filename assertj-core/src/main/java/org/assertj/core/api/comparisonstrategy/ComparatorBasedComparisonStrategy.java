@@ -203,12 +203,12 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public boolean stringContains(String string, String sequence) {
     int sequenceLength = sequence.length();
-    for (int i = 0; i < string.length(); i++) {
-      String subString = string.substring(i);
-      if (subString.length() < sequenceLength) return false;
-      if (stringStartsWith(subString, sequence)) return true;
+    // only copy the regions of string compared to sequence, not the whole rest of string
+    for (int i = 0; i < string.length() && i <= string.length() - sequenceLength; i++) {
+      if (comparator.compare(string.substring(i, i + sequenceLength), sequence) == 0) return true;
     }
     return false;
   }
@@ -14,13 +14,16 @@ package org.assertj.core.api.recursive;
 
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.recursive.FieldLocationMatcher.matchingFieldsAndTheirChildren;
 import static org.assertj.core.util.Lists.list;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.assertj.core.api.RecursiveComparisonAssert;
@@ -35,6 +38,10 @@ public abstract class AbstractRecursiveOperationConfiguration {
   private final List<Pattern> ignoredFieldsRegexes = new ArrayList<>();
   private final Set<Class<?>> ignoredTypes = new LinkedHashSet<>();
   private final List<Pattern> ignoredTypesRegexes = new ArrayList<>();
+  // compiled lazily from ignoredFields and ignoredFieldsRegexes, reset when they change
+  private volatile FieldLocationMatcher ignoredFieldsMatcher;
+  // memoized ignoredTypesRegexes verdicts, reset when they change
+  private final Map<Class<?>, Boolean> ignoredTypesRegexesVerdicts = new ConcurrentHashMap<>();
 
   protected AbstractRecursiveOperationConfiguration(AbstractBuilder<?> builder) {
     ignoreFields(builder.ignoredFields);
@@ -56,6 +63,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
   public void ignoreFields(String... fieldsToIgnore) {
     List<String> fieldLocations = list(fieldsToIgnore);
     ignoredFields.addAll(fieldLocations);
+    ignoredFieldsMatcher = null;
   }
 
   /**
@@ -77,6 +85,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
   public void ignoreFieldsMatchingRegexes(String... regexes) {
     List<Pattern> patterns = toPatterns(regexes);
     ignoredFieldsRegexes.addAll(patterns);
+    ignoredFieldsMatcher = null;
   }
 
   public List<Pattern> getIgnoredFieldsRegexes() {
@@ -120,6 +129,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
   public void ignoreFieldsOfTypesMatchingRegexes(String... regexes) {
     List<Pattern> patterns = toPatterns(regexes);
     ignoredTypesRegexes.addAll(patterns);
+    ignoredTypesRegexesVerdicts.clear();
   }
 
   protected static Class<?> asWrapperIfPrimitiveType(Class<?> type) {
@@ -192,6 +202,36 @@ public abstract class AbstractRecursiveOperationConfiguration {
     return getIgnoredFields().stream().anyMatch(fieldLocation::hierarchyMatches);
   }
 
+  /**
+   * Returns true if the given field location or any of its parents is an ignored field or matches an ignored field regex,
+   * this is equivalent to {@code matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation)} but
+   * faster as the rules are compiled once and their verdicts memoized.
+   *
+   * @param fieldLocation the field location to check
+   * @return true if the given field location should be ignored, false otherwise.
+   */
+  public boolean matchesAnIgnoredFieldOrFieldRegex(FieldLocation fieldLocation) {
+    return ignoredFieldsMatcher().matches(fieldLocation);
+  }
+
+  private FieldLocationMatcher ignoredFieldsMatcher() {
+    FieldLocationMatcher matcher = ignoredFieldsMatcher;
+    if (matcher == null) {
+      matcher = matchingFieldsAndTheirChildren(getIgnoredFields(), getIgnoredFieldsRegexes());
+      ignoredFieldsMatcher = matcher;
+    }
+    return matcher;
+  }
+
+  protected boolean matchesAnIgnoredTypeRegex(Class<?> type) {
+    if (ignoredTypesRegexes.isEmpty()) return false; // shortcut
+    return ignoredTypesRegexesVerdicts.computeIfAbsent(type, this::typeNameMatchesAnIgnoredTypeRegex);
+  }
+
+  private boolean typeNameMatchesAnIgnoredTypeRegex(Class<?> type) {
+    return ignoredTypesRegexes.stream().anyMatch(regex -> regex.matcher(type.getName()).matches());
+  }
+
   private String describeIgnoredFields() {
     return join(getIgnoredFields());
   }
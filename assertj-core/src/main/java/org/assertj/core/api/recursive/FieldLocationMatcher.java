@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+import static org.assertj.core.api.recursive.comparison.FieldLocation.FIELD_SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.assertj.core.api.recursive.comparison.FieldLocation;
+
+/**
+ * Matches field locations against a group of field paths and regexes, for example the ignored fields of a recursive comparison.
+ * <p>
+ * The rules are compiled once: field paths are indexed in a set (so that matching a path and its parents only costs a lookup per
+ * path element) and the verdicts are memoized per path to use in rules, since the same paths are evaluated over and over when
+ * comparing collections or graphs of objects of the same types.
+ * <p>
+ * Instances are immutable and thread safe, they must be recreated if the rules change.
+ */
+public final class FieldLocationMatcher {
+
+  // guard against unbounded growth when paths contain arbitrary map keys
+  private static final int MAX_MEMOIZED_VERDICTS = 10_000;
+
+  private final Set<String> fieldPaths;
+  private final List<Pattern> regexes;
+  private final boolean matchParentFields;
+  private final Map<String, Boolean> verdictByPath = new ConcurrentHashMap<>();
+
+  private FieldLocationMatcher(Collection<String> fieldPaths, Collection<Pattern> regexes, boolean matchParentFields) {
+    this.fieldPaths = unmodifiableSet(new HashSet<>(fieldPaths));
+    this.regexes = unmodifiableList(new ArrayList<>(regexes));
+    this.matchParentFields = matchParentFields;
+  }
+
+  /**
+   * Creates a matcher for fields matching exactly one of the given field paths or regexes.
+   *
+   * @param fieldPaths the field paths to match
+   * @param regexes the regexes to match
+   * @return a new {@link FieldLocationMatcher}
+   */
+  public static FieldLocationMatcher matchingFields(Collection<String> fieldPaths, Collection<Pattern> regexes) {
+    return new FieldLocationMatcher(fieldPaths, regexes, false);
+  }
+
+  /**
+   * Creates a matcher for fields whose path or any of their parent paths match one of the given field paths or regexes,
+   * as if a field is matched then all its subfields are too.
+   *
+   * @param fieldPaths the field paths to match
+   * @param regexes the regexes to match
+   * @return a new {@link FieldLocationMatcher}
+   */
+  public static FieldLocationMatcher matchingFieldsAndTheirChildren(Collection<String> fieldPaths, Collection<Pattern> regexes) {
+    return new FieldLocationMatcher(fieldPaths, regexes, true);
+  }
+
+  public boolean isEmpty() {
+    return fieldPaths.isEmpty() && regexes.isEmpty();
+  }
+
+  public boolean matches(FieldLocation fieldLocation) {
+    if (isEmpty()) return false;
+    String pathToUseInRules = fieldLocation.getPathToUseInRules();
+    Boolean verdict = verdictByPath.get(pathToUseInRules);
+    if (verdict != null) return verdict;
+    boolean matches = matchParentFields ? hierarchyMatches(pathToUseInRules) : exactlyMatches(pathToUseInRules);
+    if (verdictByPath.size() < MAX_MEMOIZED_VERDICTS) verdictByPath.put(pathToUseInRules, matches);
+    return matches;
+  }
+
+  private boolean exactlyMatches(String path) {
+    return fieldPaths.contains(path) || matchesAnyRegex(path);
+  }
+
+  private boolean hierarchyMatches(String path) {
+    // same semantics as FieldLocation hierarchyMatches/hierarchyMatchesRegex: the path and all its parents are evaluated
+    // (name.first.nickname -> name, name.first and name.first.nickname), the root empty path is never matched
+    int separatorIndex = path.indexOf(FIELD_SEPARATOR);
+    while (separatorIndex >= 0) {
+      if (separatorIndex > 0 && exactlyMatches(path.substring(0, separatorIndex))) return true;
+      separatorIndex = path.indexOf(FIELD_SEPARATOR, separatorIndex + 1);
+    }
+    return !path.isEmpty() && exactlyMatches(path);
+  }
+
+  private boolean matchesAnyRegex(String path) {
+    for (Pattern regex : regexes) {
+      if (regex.matcher(path).matches()) return true;
+    }
+    return false;
+  }
+}
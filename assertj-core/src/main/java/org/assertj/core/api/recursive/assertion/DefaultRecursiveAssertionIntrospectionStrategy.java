@@ -14,20 +14,27 @@ package org.assertj.core.api.recursive.assertion;
 
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
-import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.EXTRACTION;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.internal.Objects;
 
 public class DefaultRecursiveAssertionIntrospectionStrategy implements RecursiveAssertionIntrospectionStrategy {
 
+  // use ConcurrentHashMap in case this strategy instance is used in a multi-thread context
+  private final Map<Class<?>, Set<Field>> fieldsPerClass = new ConcurrentHashMap<>();
+
   @Override
   public List<RecursiveAssertionNode> getChildNodesOf(Object node) {
-    return getDeclaredFieldsIncludingInherited(node.getClass()).stream()
-                                                               .map(field -> toNode(field, node))
-                                                               .collect(toList());
+    return fieldsPerClass.computeIfAbsent(node.getClass(), Objects::getDeclaredFieldsIncludingInherited).stream()
+                         .map(field -> toNode(field, node))
+                         .collect(toList());
   }
 
   @Override
@@ -19,11 +19,12 @@ import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfigu
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.OptionalAssertionPolicy.OPTIONAL_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.introspection.ClassUtils.isOptionalOrPrimitiveOptional;
 import static org.assertj.core.util.introspection.ClassUtils.isPrimitiveOrWrapper;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -42,7 +43,8 @@ public class RecursiveAssertionDriver {
   private static final String KEY_FORMAT = "KEY[%s]";
   private static final String VALUE_FORMAT = "VAL[%s]";
 
-  private final Set<String> visitedNodeIds = newHashSet();
+  // nodes are tracked by identity, two distinct nodes are both visited even if they are equal
+  private final Set<Object> visitedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
   private final List<FieldLocation> fieldsFailingTheAssertion = list();
   private final RecursiveAssertionConfiguration configuration;
 
@@ -56,7 +58,7 @@ public class RecursiveAssertionDriver {
   }
 
   public void reset() {
-    visitedNodeIds.clear();
+    visitedNodes.clear();
     fieldsFailingTheAssertion.clear();
   }
 
@@ -75,8 +77,7 @@ public class RecursiveAssertionDriver {
   private boolean nodeMustBeIgnored(Object node, Class<?> nodeType, FieldLocation fieldLocation) {
     return isNullWhichAreIgnored(node)
            || isPrimitiveWhichAreIgnored(nodeType)
-           || configuration.matchesAnIgnoredField(fieldLocation)
-           || configuration.matchesAnIgnoredFieldRegex(fieldLocation)
+           || configuration.matchesAnIgnoredFieldOrFieldRegex(fieldLocation)
            || configuration.getIgnoredTypes().contains(nodeType);
   }
 
@@ -247,20 +248,7 @@ public class RecursiveAssertionDriver {
     // Cannot mark null nodes, so just lie and say marking succeeded...
     if (node == null) return false;
 
-    String objectId = identityToString(node);
-    return !visitedNodeIds.add(objectId);
-  }
-
-  /*
-   * This is taken verbatim from org.apache.commons.lang3.ObjectUtils .
-   */
-  private static String identityToString(final Object object) {
-    if (object == null) {
-      return null;
-    }
-    final String name = object.getClass().getName();
-    final String hexString = Integer.toHexString(System.identityHashCode(object));
-    return name + '@' + hexString;
+    return !visitedNodes.add(node);
   }
 
   private boolean isCollection(Class<?> nodeType) {
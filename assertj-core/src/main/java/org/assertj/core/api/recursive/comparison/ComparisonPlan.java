@@ -0,0 +1,154 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+
+/**
+ * The recursive comparison decisions that only depend on the class of a compared value, they are computed once per class
+ * instead of once per compared value which matters when comparing many values of the same type.
+ * <p>
+ * Decisions depending on the location of the value (ignored fields, field comparators ...) are not part of the plan.
+ */
+final class ComparisonPlan {
+
+  /**
+   * How a value is compared when it is the expected value, in the order the recursive comparison checks them.
+   */
+  enum Kind {
+    ARRAY,
+    ORDERED_COLLECTION,
+    ITERABLE,
+    OPTIONAL,
+    SORTED_MAP,
+    MAP,
+    ATOMIC_BOOLEAN,
+    ATOMIC_INTEGER,
+    ATOMIC_INTEGER_ARRAY,
+    ATOMIC_LONG,
+    ATOMIC_LONG_ARRAY,
+    ATOMIC_REFERENCE,
+    ATOMIC_REFERENCE_ARRAY,
+    OBJECT
+  }
+
+  private static final ClassValue<ComparisonPlan> PLANS = new ClassValue<>() {
+    @Override
+    protected ComparisonPlan computeValue(Class<?> type) {
+      return new ComparisonPlan(type);
+    }
+  };
+
+  private static final ComparisonPlan NULL_VALUE_PLAN = new ComparisonPlan();
+
+  final Kind kind;
+  final boolean javaType;
+  final boolean enumType;
+  final boolean iterable;
+  final boolean orderedCollection;
+  final boolean potentialCyclingValue;
+
+  private ComparisonPlan() {
+    kind = Kind.OBJECT;
+    javaType = false;
+    enumType = false;
+    iterable = false;
+    orderedCollection = false;
+    potentialCyclingValue = false;
+  }
+
+  private ComparisonPlan(Class<?> type) {
+    javaType = isJavaType(type);
+    enumType = type.isEnum();
+    iterable = isAnIterable(type);
+    orderedCollection = Stream.of(DEFAULT_ORDERED_COLLECTION_TYPES).anyMatch(orderedType -> orderedType.isAssignableFrom(type));
+    potentialCyclingValue = isPotentialCyclingValue(type);
+    kind = kindOf(type);
+  }
+
+  static ComparisonPlan planOf(Object value) {
+    return value == null ? NULL_VALUE_PLAN : PLANS.get(value.getClass());
+  }
+
+  private Kind kindOf(Class<?> type) {
+    if (type.isArray()) return Kind.ARRAY;
+    if (orderedCollection) return Kind.ORDERED_COLLECTION;
+    if (iterable) return Kind.ITERABLE;
+    if (Optional.class.isAssignableFrom(type)) return Kind.OPTIONAL;
+    if (SortedMap.class.isAssignableFrom(type)) return Kind.SORTED_MAP;
+    if (Map.class.isAssignableFrom(type)) return Kind.MAP;
+    if (AtomicBoolean.class.isAssignableFrom(type)) return Kind.ATOMIC_BOOLEAN;
+    if (AtomicInteger.class.isAssignableFrom(type)) return Kind.ATOMIC_INTEGER;
+    if (AtomicIntegerArray.class.isAssignableFrom(type)) return Kind.ATOMIC_INTEGER_ARRAY;
+    if (AtomicLong.class.isAssignableFrom(type)) return Kind.ATOMIC_LONG;
+    if (AtomicLongArray.class.isAssignableFrom(type)) return Kind.ATOMIC_LONG_ARRAY;
+    if (AtomicReference.class.isAssignableFrom(type)) return Kind.ATOMIC_REFERENCE;
+    if (AtomicReferenceArray.class.isAssignableFrom(type)) return Kind.ATOMIC_REFERENCE_ARRAY;
+    return Kind.OBJECT;
+  }
+
+  private static boolean isJavaType(Class<?> type) {
+    String className = type.getName();
+    return className.startsWith("java.")
+           || className.startsWith("javax.")
+           || className.startsWith("sun.")
+           || className.startsWith("com.sun.");
+  }
+
+  private static boolean isAnIterable(Class<?> type) {
+    // Don't consider Path as an Iterable as recursively comparing them leads to a stack overflow, here's why:
+    // Iterable are compared element by element recursively
+    // Ex: /tmp/foo.txt path has /tmp as its first element
+    // so /tmp is going to be compared recursively but /tmp first element is itself leading to an infinite recursion
+    // Don't consider ValueNode as an Iterable as they only contain one value and iterating them does not make sense.
+    // Don't consider or ObjectNode as an Iterable as it holds a map but would only iterate on values and not entries.
+    return Iterable.class.isAssignableFrom(type)
+           && !(Path.class.isAssignableFrom(type)
+                || isA(type, "com.fasterxml.jackson.databind.node.ValueNode")
+                || isA(type, "com.fasterxml.jackson.databind.node.ObjectNode"));
+  }
+
+  private static boolean isA(Class<?> type, String className) {
+    try {
+      return Class.forName(className).isAssignableFrom(type);
+    } catch (ClassNotFoundException e) {
+      // type cannot be a subtype of a class that couldn't be located
+      return false;
+    }
+  }
+
+  private static boolean isPotentialCyclingValue(Class<?> type) {
+    // java.lang are base types that can't cycle to themselves or other types
+    // we could check more types, but that's a good start
+    String canonicalName = type.getCanonicalName();
+    // canonicalName is null for anonymous and local classes, return true as they can cycle back to other objects.
+    if (canonicalName == null) return true;
+    // enums can refer back to other object but since they are constants it is very unlikely that they generate cycles.
+    if (type.isEnum()) return false;
+    return !canonicalName.startsWith("java.lang");
+  }
+
+}
@@ -20,7 +20,6 @@ import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Arrays.isArray;
 
-import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -37,7 +36,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
-import java.util.stream.Stream;
 
 // logically immutable
 public final class DualValue {
@@ -47,6 +45,8 @@ public final class DualValue {
   final FieldLocation fieldLocation;
   final Object actual;
   final Object expected;
+  final ComparisonPlan actualPlan;
+  final ComparisonPlan expectedPlan;
   private final int hashCode;
 
   public DualValue(List<String> path, Object actual, Object expected) {
@@ -61,6 +61,8 @@ public final class DualValue {
     this.fieldLocation = requireNonNull(fieldLocation, "fieldLocation must not be null");
     actual = actualFieldValue;
     expected = expectedFieldValue;
+    actualPlan = ComparisonPlan.planOf(actualFieldValue);
+    expectedPlan = ComparisonPlan.planOf(expectedFieldValue);
     hashCode = computeHashCode();
   }
 
@@ -113,26 +115,17 @@ public final class DualValue {
   }
 
   public boolean isActualJavaType() {
-    return isJavaType(actual);
+    return actualPlan.javaType;
   }
 
   public boolean isExpectedJavaType() {
-    return isJavaType(expected);
+    return expectedPlan.javaType;
   }
 
   public boolean hasSomeJavaTypeValue() {
     return isActualJavaType() || isExpectedJavaType();
   }
 
-  private static boolean isJavaType(Object o) {
-    if (o == null) return false;
-    String className = o.getClass().getName();
-    return className.startsWith("java.")
-           || className.startsWith("javax.")
-           || className.startsWith("sun.")
-           || className.startsWith("com.sun.");
-  }
-
   public boolean isExpectedFieldAnArray() {
     return isArray(expected);
   }
@@ -257,61 +250,27 @@ public final class DualValue {
   }
 
   public boolean isActualFieldAnOrderedCollection() {
-    return isAnOrderedCollection(actual);
+    return actualPlan.orderedCollection;
   }
 
   public boolean isExpectedFieldAnOrderedCollection() {
-    return isAnOrderedCollection(expected);
+    return expectedPlan.orderedCollection;
   }
 
   public boolean isActualFieldAnIterable() {
-    return isAnIterable(actual);
+    return actualPlan.iterable;
   }
 
   public boolean isExpectedFieldAnIterable() {
-    return isAnIterable(expected);
-  }
-
-  private static boolean isAnIterable(Object value) {
-    // Don't consider Path as an Iterable as recursively comparing them leads to a stack overflow, here's why:
-    // Iterable are compared element by element recursively
-    // Ex: /tmp/foo.txt path has /tmp as its first element
-    // so /tmp is going to be compared recursively but /tmp first element is itself leading to an infinite recursion
-    // Don't consider ValueNode as an Iterable as they only contain one value and iterating them does not make sense.
-    // Don't consider or ObjectNode as an Iterable as it holds a map but would only iterate on values and not entries.
-    return value instanceof Iterable && !(value instanceof Path || isAJsonValueNode(value) || isAnObjectNode(value));
-  }
-
-  private static boolean isAJsonValueNode(Object value) {
-    try {
-      Class<?> valueNodeClass = Class.forName("com.fasterxml.jackson.databind.node.ValueNode");
-      return valueNodeClass.isInstance(value);
-    } catch (ClassNotFoundException e) {
-      // value cannot be a ValueNode because the class couldn't be located
-      return false;
-    }
-  }
-
-  private static boolean isAnObjectNode(Object value) {
-    try {
-      Class<?> objectNodeClass = Class.forName("com.fasterxml.jackson.databind.node.ObjectNode");
-      return objectNodeClass.isInstance(value);
-    } catch (ClassNotFoundException e) {
-      // value cannot be an ObjectNode because the class couldn't be located
-      return false;
-    }
-  }
-
-  private static boolean isAnOrderedCollection(Object value) {
-    return Stream.of(DEFAULT_ORDERED_COLLECTION_TYPES).anyMatch(type -> type.isInstance(value));
+    return expectedPlan.iterable;
   }
 
   public boolean isExpectedAnEnum() {
-    return expected != null && expected.getClass().isEnum();
+    return expectedPlan.enumType;
   }
 
   public boolean isActualAnEnum() {
-    return actual != null && actual.getClass().isEnum();
+    return actualPlan.enumType;
   }
 
   public boolean hasNoContainerValues() {
@@ -327,19 +286,7 @@ public final class DualValue {
   }
 
   public boolean hasPotentialCyclingValues() {
-    return isPotentialCyclingValue(actual) && isPotentialCyclingValue(expected);
-  }
-
-  private static boolean isPotentialCyclingValue(Object object) {
-    if (object == null) return false;
-    // java.lang are base types that can't cycle to themselves or other types
-    // we could check more types, but that's a good start
-    String canonicalName = object.getClass().getCanonicalName();
-    // canonicalName is null for anonymous and local classes, return true as they can cycle back to other objects.
-    if (canonicalName == null) return true;
-    // enums can refer back to other object but since they are constants it is very unlikely that they generate cycles.
-    if (object.getClass().isEnum()) return false;
-    return !canonicalName.startsWith("java.lang");
+    return actualPlan.potentialCyclingValue && expectedPlan.potentialCyclingValue;
   }
 
 }
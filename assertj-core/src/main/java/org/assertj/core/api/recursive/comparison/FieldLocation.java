@@ -12,15 +12,16 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.joining;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -34,14 +35,51 @@ import java.util.regex.Pattern;
 public final class FieldLocation implements Comparable<FieldLocation> {
 
   public static final String FIELD_SEPARATOR = ".";
-  private final String pathToUseInRules;
-  private final List<String> decomposedPath;
-  private final Set<String> pathsHierarchyToUseInRules;
+  // a location is its parent location and its field name, the root location has neither
+  private final FieldLocation parent;
+  private final String fieldName;
+  private final int hashCode;
+  // derived from the parent ones in constant time
+  private final int depth;
+  // number of path elements used in rules, needed to derive a child path to use in rules from the parent one
+  private final int pathToUseInRulesElementsCount;
+  // computed lazily from the immutable path elements (benign data races)
+  private List<String> decomposedPath;
+  private String pathToUseInRules;
+  // only needed for regex matching
+  private Set<String> pathsHierarchyToUseInRules;
 
   public FieldLocation(List<String> path) {
-    decomposedPath = unmodifiableList(requireNonNull(path, "path cannot be null"));
-    pathToUseInRules = pathToUseInRules(decomposedPath);
-    pathsHierarchyToUseInRules = pathsHierarchyToUseInRules();
+    this(parentLocation(requireNonNull(path, "path cannot be null")), path.isEmpty() ? null : path.get(path.size() - 1));
+    decomposedPath = unmodifiableList(path);
+  }
+
+  private FieldLocation(FieldLocation parent, String fieldName) {
+    this.parent = parent;
+    this.fieldName = fieldName;
+    hashCode = computeHashCode();
+    if (parent == null) {
+      depth = 0;
+      pathToUseInRulesElementsCount = 0;
+      pathToUseInRules = "";
+    } else {
+      depth = parent.depth + 1;
+      pathToUseInRulesElementsCount = parent.pathToUseInRulesElementsCount + (isUsedInRules(fieldName) ? 1 : 0);
+    }
+  }
+
+  private static FieldLocation parentLocation(List<String> path) {
+    if (path.isEmpty()) return null;
+    FieldLocation parent = new FieldLocation(null, null);
+    for (String field : path.subList(0, path.size() - 1)) {
+      parent = parent.field(field);
+    }
+    return parent;
+  }
+
+  // the parent hash code is already computed, so this does not walk the whole path
+  private int computeHashCode() {
+    return 31 * Objects.hashCode(parent) + Objects.hashCode(fieldName);
   }
 
   public FieldLocation(String s) {
@@ -50,50 +88,51 @@ public final class FieldLocation implements Comparable<FieldLocation> {
 
   @Override
   public int compareTo(final FieldLocation other) {
-    return pathToUseInRules.compareTo(other.pathToUseInRules);
+    return getPathToUseInRules().compareTo(other.getPathToUseInRules());
   }
 
   @Override
   public boolean equals(Object obj) {
     if (this == obj) return true;
     if (!(obj instanceof FieldLocation)) return false;
-    FieldLocation that = (FieldLocation) obj;
-    return Objects.equals(pathToUseInRules, that.pathToUseInRules)
-           && Objects.equals(decomposedPath, that.decomposedPath)
-           && Objects.equals(pathsHierarchyToUseInRules, that.pathsHierarchyToUseInRules);
+    FieldLocation location = this;
+    FieldLocation other = (FieldLocation) obj;
+    // iterate instead of recursing on parents as locations can be deeply nested, stop at the first common parent
+    while (location != other) {
+      if (location == null || other == null || location.hashCode != other.hashCode) return false;
+      if (!Objects.equals(location.fieldName, other.fieldName)) return false;
+      location = location.parent;
+      other = other.parent;
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    int result = Objects.hashCode(pathToUseInRules);
-    result = 31 * result + Objects.hashCode(decomposedPath);
-    result = 31 * result + Objects.hashCode(pathsHierarchyToUseInRules);
-    return result;
+    return hashCode;
   }
 
   @Override
   public String toString() {
-    return "<%s>".formatted(pathToUseInRules);
+    return "<%s>".formatted(getPathToUseInRules());
   }
 
   public String shortDescription() {
-    return pathToUseInRules;
+    return getPathToUseInRules();
   }
 
-  private static String pathToUseInRules(List<String> path) {
-    // remove the array sub-path, so person.children.[2].name -> person.children.name
-    // rules for ignoring fields don't apply at the element level (ex: children.[2]) but at the group level (ex: children).
-    return path.stream()
-               .filter(subpath -> !subpath.startsWith("["))
-               .collect(joining(FIELD_SEPARATOR));
+  // array sub-paths are removed from the path to use in rules, so person.children.[2].name -> person.children.name
+  // rules for ignoring fields don't apply at the element level (ex: children.[2]) but at the group level (ex: children).
+  private static boolean isUsedInRules(String subpath) {
+    return !subpath.startsWith("[");
   }
 
   public boolean exactlyMatches(FieldLocation field) {
-    return exactlyMatches(field.pathToUseInRules);
+    return exactlyMatches(field.getPathToUseInRules());
   }
 
   public boolean exactlyMatches(String fieldPath) {
-    return pathToUseInRules.equals(fieldPath);
+    return getPathToUseInRules().equals(fieldPath);
   }
 
   /**
@@ -120,7 +159,11 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true if this fieldLocation is the given fieldPath or a child of it, false otherwise.
    */
   public boolean hierarchyMatches(String fieldPath) {
-    return pathsHierarchyToUseInRules.contains(fieldPath);
+    // equivalent to pathsHierarchyToUseInRules().contains(fieldPath) without building the hierarchy
+    String pathToUseInRules = getPathToUseInRules();
+    if (fieldPath == null || isRootPath(fieldPath) || !pathToUseInRules.startsWith(fieldPath)) return false;
+    return pathToUseInRules.length() == fieldPath.length()
+           || pathToUseInRules.startsWith(FIELD_SEPARATOR, fieldPath.length());
   }
 
   /**
@@ -148,41 +191,61 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true, this fieldLocation or any of its parent matches the given regex., false otherwise.
    */
   public boolean hierarchyMatchesRegex(Pattern regex) {
-    return pathsHierarchyToUseInRules.stream().anyMatch(path -> regex.matcher(path).matches());
+    return pathsHierarchyToUseInRules().stream().anyMatch(path -> regex.matcher(path).matches());
   }
 
   public List<String> getDecomposedPath() {
+    if (decomposedPath != null) return decomposedPath;
+    String[] fieldNames = new String[depth];
+    for (FieldLocation location = this; location.parent != null; location = location.parent) {
+      fieldNames[location.depth - 1] = location.fieldName;
+    }
+    decomposedPath = unmodifiableList(asList(fieldNames));
     return decomposedPath;
   }
 
   public String getPathToUseInRules() {
+    if (pathToUseInRules != null) return pathToUseInRules;
+    // build the missing parent paths from the closest known one (the root one at worst), iteratively as locations can be
+    // deeply nested
+    Deque<FieldLocation> locationsWithoutPath = new ArrayDeque<>();
+    for (FieldLocation location = this; location.pathToUseInRules == null; location = location.parent) {
+      locationsWithoutPath.push(location);
+    }
+    for (FieldLocation location : locationsWithoutPath) {
+      location.pathToUseInRules = location.parent.childPathToUseInRules(location.fieldName);
+    }
     return pathToUseInRules;
   }
 
+  // derive the path from the parent one instead of filtering and joining the whole decomposed path again
+  private String childPathToUseInRules(String childFieldName) {
+    if (!isUsedInRules(childFieldName)) return pathToUseInRules;
+    return pathToUseInRulesElementsCount == 0 ? childFieldName : pathToUseInRules + FIELD_SEPARATOR + childFieldName;
+  }
+
   public String getPathToUseInRulesForChildField(String fieldName) {
+    String pathToUseInRules = getPathToUseInRules();
     return pathToUseInRules.isEmpty() ? fieldName : pathToUseInRules + FIELD_SEPARATOR + fieldName;
   }
 
   public FieldLocation field(String field) {
-    List<String> decomposedPathWithField = new ArrayList<>(decomposedPath);
-    decomposedPathWithField.add(field);
-    return new FieldLocation(decomposedPathWithField);
+    return new FieldLocation(this, field);
   }
 
   public String getPathToUseInErrorReport() {
-    return String.join(FIELD_SEPARATOR, decomposedPath);
+    return String.join(FIELD_SEPARATOR, getDecomposedPath());
   }
 
   public String getFieldName() {
-    if (decomposedPath.isEmpty()) return "";
-    return decomposedPath.get(decomposedPath.size() - 1);
+    return parent == null ? "" : fieldName;
   }
 
   public boolean isRoot() {
     // Root is the top level object compared or in case of the top level is an iterable/array the elements are
     // considered as roots.
     // We don't do it for optional since it has a 'value' field (at least for now)
-    return isRootPath(pathToUseInRules);
+    return isRootPath(getPathToUseInRules());
   }
 
   private boolean isRootPath(String pathToUseInRules) {
@@ -190,7 +253,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
   }
 
   public boolean isTopLevelField() {
-    return !isRoot() && !pathToUseInRules.contains(FIELD_SEPARATOR);
+    return !isRoot() && !getPathToUseInRules().contains(FIELD_SEPARATOR);
   }
 
   public static FieldLocation rootFieldLocation() {
@@ -219,7 +282,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    */
   public boolean hasParent(FieldLocation parent) {
     // FIELD_SEPARATOR guarantees that we compare path elements, this avoids making "name" a parent of "names"
-    return pathToUseInRules.startsWith(parent.pathToUseInRules + FIELD_SEPARATOR);
+    return getPathToUseInRules().startsWith(parent.getPathToUseInRules() + FIELD_SEPARATOR);
   }
 
   /**
@@ -248,15 +311,17 @@ public final class FieldLocation implements Comparable<FieldLocation> {
   }
 
   private Set<String> pathsHierarchyToUseInRules() {
+    if (pathsHierarchyToUseInRules != null) return pathsHierarchyToUseInRules;
     // using LinkedHashSet to maintain leaf to root iteration order
     // so that hierarchyMatchesRegex can try matching from the longest to the shortest path
     Set<String> fieldAndParentFields = newLinkedHashSet();
-    String currentPath = this.pathToUseInRules;
+    String currentPath = getPathToUseInRules();
     while (!isRootPath(currentPath)) {
       fieldAndParentFields.add(currentPath);
       currentPath = parent(currentPath);
     }
-    return unmodifiableSet(fieldAndParentFields);
+    pathsHierarchyToUseInRules = unmodifiableSet(fieldAndParentFields);
+    return pathsHierarchyToUseInRules;
   }
 
   private String parent(String currentPath) {
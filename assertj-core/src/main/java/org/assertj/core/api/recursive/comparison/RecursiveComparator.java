@@ -12,9 +12,10 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
-import java.util.Comparator;
 import java.util.List;
 
+import org.assertj.core.internal.NonTransitiveComparator;
+
 /**
  * {@code Comparator} comparing objects recursively as in {@link org.assertj.core.api.RecursiveComparisonAssert}.
  * <p>
@@ -23,7 +24,7 @@ import java.util.List;
  *
  * @since 3.24.0
  */
-public class RecursiveComparator implements Comparator<Object> {
+public class RecursiveComparator implements NonTransitiveComparator<Object> {
 
   private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
   private final RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator;
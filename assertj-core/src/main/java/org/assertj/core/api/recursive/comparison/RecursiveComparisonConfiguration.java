@@ -17,12 +17,14 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.recursive.FieldLocationMatcher.matchingFields;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.data.MapEntry.entry;
 import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.util.ArrayList;
@@ -35,12 +37,14 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.RecursiveComparisonAssert;
 import org.assertj.core.api.recursive.AbstractRecursiveOperationConfiguration;
+import org.assertj.core.api.recursive.FieldLocationMatcher;
 import org.assertj.core.internal.TypeComparators;
 import org.assertj.core.internal.TypeMessages;
 import org.assertj.core.presentation.Representation;
@@ -69,12 +73,18 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   private List<String> ignoredOverriddenEqualsForFields = new ArrayList<>();
   private final List<Pattern> ignoredOverriddenEqualsForFieldsMatchingRegexes = new ArrayList<>();
   private boolean ignoreAllOverriddenEquals = DEFAULT_IGNORE_ALL_OVERRIDDEN_EQUALS;
+  // compiled lazily from ignoredOverriddenEqualsForFields and ignoredOverriddenEqualsForFieldsMatchingRegexes
+  private volatile FieldLocationMatcher ignoredOverriddenEqualsForFieldsMatcher;
 
   // ignore order in collections section
   private boolean ignoreCollectionOrder = false;
   private boolean ignoreArrayOrder = false;
   private Set<String> ignoredCollectionOrderInFields = new LinkedHashSet<>();
   private final List<Pattern> ignoredCollectionOrderInFieldsMatchingRegexes = new ArrayList<>();
+  private Class<?> collectionElementsMatchingKeyType;
+  private Function<Object, ?> collectionElementsMatchingKeyExtractor;
+  // compiled lazily from ignoredCollectionOrderInFields and ignoredCollectionOrderInFieldsMatchingRegexes
+  private volatile FieldLocationMatcher ignoredCollectionOrderInFieldsMatcher;
 
   // registered comparators section
   private TypeComparators typeComparators = defaultTypeComparators();
@@ -96,6 +106,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   private boolean compareEnumAgainstString = false;
 
+  private int parallelism = 1;
+
   private RecursiveComparisonConfiguration(Builder builder) {
     super(builder);
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
@@ -112,11 +124,14 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     this.ignoreArrayOrder = builder.ignoreArrayOrder;
     this.ignoredCollectionOrderInFields = newLinkedHashSet(builder.ignoredCollectionOrderInFields);
     ignoreCollectionOrderInFieldsMatchingRegexes(builder.ignoredCollectionOrderInFieldsMatchingRegexes);
+    this.collectionElementsMatchingKeyType = builder.collectionElementsMatchingKeyType;
+    this.collectionElementsMatchingKeyExtractor = builder.collectionElementsMatchingKeyExtractor;
     this.typeComparators = builder.typeComparators;
     this.fieldComparators = builder.fieldComparators;
     this.fieldMessages = builder.fieldMessages;
     this.typeMessages = builder.typeMessages;
     this.introspectionStrategy = builder.introspectionStrategy;
+    this.parallelism = builder.parallelism;
     this.representation = builder.representation != null ? builder.representation : STANDARD_REPRESENTATION;
   }
 
@@ -320,6 +335,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   public void ignoreOverriddenEqualsForFields(String... fields) {
     List<String> fieldLocations = list(fields);
     ignoredOverriddenEqualsForFields.addAll(fieldLocations);
+    ignoredOverriddenEqualsForFieldsMatcher = null;
   }
 
   /**
@@ -333,6 +349,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     ignoredOverriddenEqualsForFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                  .map(Pattern::compile)
                                                                  .collect(toList()));
+    ignoredOverriddenEqualsForFieldsMatcher = null;
   }
 
   /**
@@ -380,6 +397,49 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     this.ignoreCollectionOrder = ignoreCollectionOrder;
   }
 
+  /**
+   * Makes the recursive comparison to ignore collection order in all fields, the elements of unordered collections of the given
+   * type being matched by the key computed with the given function before being compared recursively.
+   * <p>
+   * Elements are indexed once by key which makes the matching of large collections near-linear, elements with different keys are
+   * never compared. The function is only applied to collections whose non-null elements are all instances of the given type
+   * (null elements having a null key), the elements of other collections are matched by hash code.
+   * <p>
+   * See {@link RecursiveComparisonAssert#ignoringCollectionOrderMatchingBy(Function, Class)} for code examples.
+   *
+   * @param <T> the type of the collections elements
+   * @param matchingKeyExtractor the function computing the key actual and expected elements are matched by.
+   * @param type the type of the collections elements the function applies to.
+   * @throws NullPointerException if the given function or type is null.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void ignoreCollectionOrderMatchingBy(Function<? super T, ?> matchingKeyExtractor, Class<T> type) {
+    requireNonNull(matchingKeyExtractor, "Expecting a non null matching key extractor");
+    requireNonNull(type, "Expecting a non null type");
+    this.ignoreCollectionOrder = true;
+    this.collectionElementsMatchingKeyType = type;
+    this.collectionElementsMatchingKeyExtractor = (Function<Object, ?>) matchingKeyExtractor;
+  }
+
+  /**
+   * Returns the type of the unordered collection elements matched by the key computed with
+   * {@link #getCollectionElementsMatchingKeyExtractor()}, null if elements are matched by hash code.
+   *
+   * @return the type of the unordered collection elements matched by key, null if none was set.
+   */
+  public Class<?> getCollectionElementsMatchingKeyType() {
+    return collectionElementsMatchingKeyType;
+  }
+
+  /**
+   * Returns the function computing the key unordered collection elements are matched by, null if elements are matched by hash code.
+   *
+   * @return the function computing the key unordered collection elements are matched by, null if none was set.
+   */
+  public Function<Object, ?> getCollectionElementsMatchingKeyExtractor() {
+    return collectionElementsMatchingKeyExtractor;
+  }
+
   /**
    * Adds the given fields to the list fields from the object under test to ignore collection order in the recursive comparison.
    * <p>
@@ -394,6 +454,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   public void ignoreCollectionOrderInFields(String... fieldsToIgnoreCollectionOrder) {
     List<String> fieldLocations = list(fieldsToIgnoreCollectionOrder);
     ignoredCollectionOrderInFields.addAll(fieldLocations);
+    ignoredCollectionOrderInFieldsMatcher = null;
   }
 
   /**
@@ -416,6 +477,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     ignoredCollectionOrderInFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                .map(Pattern::compile)
                                                                .collect(toList()));
+    ignoredCollectionOrderInFieldsMatcher = null;
   }
 
   /**
@@ -636,6 +698,32 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return this.compareEnumAgainstString;
   }
 
+  /**
+   * Sets the number of threads used to compare independent subtrees of the compared object graphs, a parallelism of 1
+   * (the default) compares the graphs sequentially.
+   * <p>
+   * The parallel comparison reports the same differences as the sequential one, when subtrees turn out to share some
+   * nodes the comparison is performed sequentially as the reported differences depend on the order nodes are visited.
+   * <p>
+   * See {@link RecursiveComparisonAssert#inParallel()} for code examples.
+   *
+   * @param parallelism the number of threads to use, must be greater than 0.
+   * @throws IllegalArgumentException if parallelism is not greater than 0.
+   */
+  public void setParallelism(int parallelism) {
+    checkArgument(parallelism > 0, "The parallelism must be greater than 0 but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  boolean isInParallelMode() {
+    // compared types are registered while traversing the graph, this can't be shared between threads
+    return parallelism > 1 && comparedTypes.isEmpty();
+  }
+
   @Override
   public String toString() {
     return multiLineDescription(CONFIGURATION_PROVIDER.representation());
@@ -649,7 +737,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                   getIgnoredFields(), getIgnoredFieldsRegexes(), ignoredOverriddenEqualsForFields,
                                   ignoredOverriddenEqualsForTypes, ignoredOverriddenEqualsForFieldsMatchingRegexes,
                                   getIgnoredTypes(), strictTypeChecking, typeComparators, comparedFields, comparedTypes,
-                                  fieldMessages, typeMessages, compareEnumAgainstString, ignoreArrayOrder);
+                                  fieldMessages, typeMessages, compareEnumAgainstString, ignoreArrayOrder,
+                                  collectionElementsMatchingKeyType, collectionElementsMatchingKeyExtractor, parallelism);
   }
 
   @Override
@@ -665,7 +754,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            && ignoreAllOverriddenEquals == other.ignoreAllOverriddenEquals
            && ignoreCollectionOrder == other.ignoreCollectionOrder
            && ignoreArrayOrder == other.ignoreArrayOrder
+           && parallelism == other.parallelism
            && java.util.Objects.equals(ignoredCollectionOrderInFields, other.ignoredCollectionOrderInFields)
+           && java.util.Objects.equals(collectionElementsMatchingKeyType, other.collectionElementsMatchingKeyType)
+           && java.util.Objects.equals(collectionElementsMatchingKeyExtractor, other.collectionElementsMatchingKeyExtractor)
            && java.util.Objects.equals(getIgnoredFields(), other.getIgnoredFields())
            && java.util.Objects.equals(comparedFields, other.comparedFields)
            && java.util.Objects.equals(comparedTypes, other.comparedTypes)
@@ -699,6 +791,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     describeIgnoreCollectionOrder(description);
     describeIgnoredCollectionOrderInFields(description);
     describeIgnoredCollectionOrderInFieldsMatchingRegexes(description);
+    describeCollectionElementsMatchingKeyExtractor(description);
     describeRegisteredComparatorByTypes(description);
     describeRegisteredComparatorForFields(description);
     describeTypeCheckingStrictness(description);
@@ -754,17 +847,22 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     // - we filter first ignored nodes by names that don't need building DualValues
     // - then we filter field DualValues with the remaining criteria that need to get the node value
     // DualValues are built by introspecting node values which is expensive.
-    return actualChildrenNodeNames.stream()
-                                  // evaluate field name ignoring criteria on dualValue field location + field name
-                                  .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName)))
-                                  .map(fieldName -> dualValueForField(dualValue, fieldName))
-                                  // evaluate field value ignoring criteria
-                                  .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue))
-                                  .filter(this::shouldBeCompared)
-                                  // back to field name
-                                  .map(DualValue::getFieldName)
-                                  .filter(fieldName -> !fieldName.isEmpty())
-                                  .collect(toSet());
+    // evaluate field name ignoring criteria on dualValue field location + field name
+    Stream<String> fieldNamesNotIgnoredByLocation = actualChildrenNodeNames.stream()
+                                                                           .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName)));
+    if (!someChildrenNodesCanBeIgnoredByValue()) {
+      // no need to introspect the node values here, they are introspected anyway when compared
+      return fieldNamesNotIgnoredByLocation.filter(fieldName -> !fieldName.isEmpty())
+                                           .collect(toSet());
+    }
+    return fieldNamesNotIgnoredByLocation.map(fieldName -> dualValueForField(dualValue, fieldName))
+                                         // evaluate field value ignoring criteria
+                                         .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue))
+                                         .filter(this::shouldBeCompared)
+                                         // back to field name
+                                         .map(DualValue::getFieldName)
+                                         .filter(fieldName -> !fieldName.isEmpty())
+                                         .collect(toSet());
   }
 
   Set<String> getChildrenNodeNamesOf(Object instance) {
@@ -777,6 +875,16 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // non accessible stuff
 
+  private boolean someChildrenNodesCanBeIgnoredByValue() {
+    // see shouldIgnoreFieldBasedOnFieldValue and shouldBeCompared
+    return ignoreAllActualNullFields
+           || ignoreAllExpectedNullFields
+           || ignoreAllActualEmptyOptionalFields
+           || !getIgnoredTypes().isEmpty()
+           || !getIgnoredTypesRegexes().isEmpty()
+           || !comparedFields.isEmpty();
+  }
+
   private boolean shouldIgnoreFieldBasedOnFieldValue(DualValue dualValue) {
     return matchesAnIgnoredNullField(dualValue)
            || matchesAnIgnoredFieldType(dualValue)
@@ -784,7 +892,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   private boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation) {
-    return matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
+    return matchesAnIgnoredFieldOrFieldRegex(fieldLocation);
   }
 
   private DualValue dualValueForField(DualValue parentDualValue, String fieldName) {
@@ -835,8 +943,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation) {
     return ignoreCollectionOrder
-           || matchesAnIgnoredCollectionOrderInField(fieldLocation)
-           || matchesAnIgnoredCollectionOrderInFieldRegex(fieldLocation);
+           || matchesAnIgnoredCollectionOrderInFieldOrFieldRegex(fieldLocation);
   }
 
   public boolean shouldIgnoreArrayOrder() {
@@ -935,6 +1042,13 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                                                                                                                          describeRegexes(ignoredCollectionOrderInFieldsMatchingRegexes)));
   }
 
+  private void describeCollectionElementsMatchingKeyExtractor(StringBuilder description) {
+    if (collectionElementsMatchingKeyExtractor == null) return;
+    String matchingDescription = "- unordered collections elements of type %s were matched by the key computed with: %s%n";
+    description.append(matchingDescription.formatted(collectionElementsMatchingKeyType.getName(),
+                                                     collectionElementsMatchingKeyExtractor));
+  }
+
   private void describeIntrospectionStrategy(StringBuilder description) {
     description.append("- the introspection strategy used was: %s%n".formatted(introspectionStrategy.getDescription()));
   }
@@ -944,20 +1058,17 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       description.append("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal%n".formatted());
   }
 
-  private boolean matchesAnIgnoredOverriddenEqualsRegex(FieldLocation fieldLocation) {
-    if (ignoredOverriddenEqualsForFieldsMatchingRegexes.isEmpty()) return false; // shortcut
-    String pathToUseInRules = fieldLocation.getPathToUseInRules();
-    return ignoredOverriddenEqualsForFieldsMatchingRegexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
-  }
-
   private boolean matchesAnIgnoredOverriddenEqualsType(Class<?> clazz) {
     return ignoredOverriddenEqualsForTypes.contains(clazz);
   }
 
   private boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualValue) {
-    FieldLocation fieldLocation = dualValue.fieldLocation;
-    return ignoredOverriddenEqualsForFields.stream().anyMatch(fieldLocation::exactlyMatches)
-           || matchesAnIgnoredOverriddenEqualsRegex(fieldLocation);
+    FieldLocationMatcher matcher = ignoredOverriddenEqualsForFieldsMatcher;
+    if (matcher == null) {
+      matcher = matchingFields(ignoredOverriddenEqualsForFields, ignoredOverriddenEqualsForFieldsMatchingRegexes);
+      ignoredOverriddenEqualsForFieldsMatcher = matcher;
+    }
+    return matcher.matches(dualValue.fieldLocation);
   }
 
   private boolean matchesAnIgnoredNullField(DualValue dualValue) {
@@ -983,8 +1094,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   private boolean matchesAnIgnoredType(Object actual) {
     Class<?> actualType = actual.getClass();
-    return getIgnoredTypes().contains(actualType)
-           || getIgnoredTypesRegexes().stream().anyMatch(regex -> regex.matcher(actualType.getName()).matches());
+    return getIgnoredTypes().contains(actualType) || matchesAnIgnoredTypeRegex(actualType);
   }
 
   private void registerFieldLocationOfFieldsOfTypesToCompare(DualValue dualValue) {
@@ -997,13 +1107,13 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     }
   }
 
-  private boolean matchesAnIgnoredCollectionOrderInField(FieldLocation fieldLocation) {
-    return ignoredCollectionOrderInFields.stream().anyMatch(fieldLocation::exactlyMatches);
-  }
-
-  private boolean matchesAnIgnoredCollectionOrderInFieldRegex(FieldLocation fieldLocation) {
-    String pathToUseInRules = fieldLocation.getPathToUseInRules();
-    return ignoredCollectionOrderInFieldsMatchingRegexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
+  private boolean matchesAnIgnoredCollectionOrderInFieldOrFieldRegex(FieldLocation fieldLocation) {
+    FieldLocationMatcher matcher = ignoredCollectionOrderInFieldsMatcher;
+    if (matcher == null) {
+      matcher = matchingFields(ignoredCollectionOrderInFields, ignoredCollectionOrderInFieldsMatchingRegexes);
+      ignoredCollectionOrderInFieldsMatcher = matcher;
+    }
+    return matcher.matches(fieldLocation);
   }
 
   private String describeComparedFields() {
@@ -1217,12 +1327,15 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     private boolean ignoreArrayOrder;
     private String[] ignoredCollectionOrderInFields = {};
     private String[] ignoredCollectionOrderInFieldsMatchingRegexes = {};
+    private Class<?> collectionElementsMatchingKeyType;
+    private Function<Object, ?> collectionElementsMatchingKeyExtractor;
     private final TypeComparators typeComparators = defaultTypeComparators();
     private final FieldComparators fieldComparators = new FieldComparators();
     private final FieldMessages fieldMessages = new FieldMessages();
     private final TypeMessages typeMessages = new TypeMessages();
 
     private RecursiveComparisonIntrospectionStrategy introspectionStrategy = DEFAULT_RECURSIVE_COMPARISON_INTROSPECTION_STRATEGY;
+    private int parallelism = 1;
 
     private Builder() {
       super(Builder.class);
@@ -1397,6 +1510,28 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return this;
     }
 
+    /**
+     * Sets whether to ignore collection order in the comparison, the elements of unordered collections of the given type being
+     * matched by the key computed with the given function before being compared recursively.
+     * <p>
+     * See {@link RecursiveComparisonAssert#ignoringCollectionOrderMatchingBy(Function, Class)} for code examples.
+     *
+     * @param <T> the type of the collections elements
+     * @param matchingKeyExtractor the function computing the key actual and expected elements are matched by.
+     * @param type the type of the collections elements the function applies to.
+     * @return this builder.
+     * @throws NullPointerException if the given function or type is null.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Builder withIgnoredCollectionOrderMatchingBy(Function<? super T, ?> matchingKeyExtractor, Class<T> type) {
+      requireNonNull(matchingKeyExtractor, "Expecting a non null matching key extractor");
+      requireNonNull(type, "Expecting a non null type");
+      this.ignoreCollectionOrder = true;
+      this.collectionElementsMatchingKeyType = type;
+      this.collectionElementsMatchingKeyExtractor = (Function<Object, ?>) matchingKeyExtractor;
+      return this;
+    }
+
     /**
      * Adds the given fields to the list fields from the object under test to ignore collection order in the recursive comparison.
      * <p>
@@ -1612,6 +1747,22 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return this;
     }
 
+    /**
+     * Sets the number of threads used to compare independent subtrees of the compared object graphs, default to 1 which
+     * compares the graphs sequentially.
+     * <p>
+     * See {@link RecursiveComparisonAssert#inParallel()} for code examples.
+     *
+     * @param parallelism the number of threads to use, must be greater than 0.
+     * @return This builder.
+     * @throws IllegalArgumentException if parallelism is not greater than 0.
+     */
+    public RecursiveComparisonConfiguration.Builder withParallelism(int parallelism) {
+      checkArgument(parallelism > 0, "The parallelism must be greater than 0 but was %s", parallelism);
+      this.parallelism = parallelism;
+      return this;
+    }
+
     public RecursiveComparisonConfiguration build() {
       return new RecursiveComparisonConfiguration(this);
     }
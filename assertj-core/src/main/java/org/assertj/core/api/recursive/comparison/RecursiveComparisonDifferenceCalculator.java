@@ -14,10 +14,7 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.Objects.deepEquals;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 import static org.assertj.core.api.recursive.comparison.ComparisonDifference.rootComparisonDifference;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
@@ -35,10 +32,11 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -46,12 +44,14 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.assertj.core.api.recursive.comparison.UnorderedElementsMatcher.MatchingResult;
 import org.assertj.core.internal.DeepDifference;
 
 /**
@@ -74,6 +74,8 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String DIFFERENT_SIZE_ERROR = "actual and expected values are %s of different size, actual size=%s when expected size=%s";
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  // more groups of subtrees than threads to balance the load as subtrees can have very different sizes
+  private static final int SUBTREES_GROUPS_PER_THREAD = 8;
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -81,6 +83,8 @@ public class RecursiveComparisonDifferenceCalculator {
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+    // number of dual values to compare from which a parallel comparison splits the remaining subtrees between threads
+    int splitThreshold = Integer.MAX_VALUE;
 
     public ComparisonState(VisitedDualValues visitedDualValues,
                            RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
@@ -130,6 +134,12 @@ public class RecursiveComparisonDifferenceCalculator {
       return !dualValuesToCompare.isEmpty();
     }
 
+    boolean shouldCompareNextDualValue() {
+      return hasDualValuesToCompare()
+             && dualValuesToCompare.size() < splitThreshold
+             && !visitedDualValues.overlapsOtherForks();
+    }
+
     public DualValue pickDualValueToCompare() {
       return dualValuesToCompare.removeFirst();
     }
@@ -233,6 +243,9 @@ public class RecursiveComparisonDifferenceCalculator {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
       return list(expectedAndActualTypeDifference(actual, expected));
     }
+    if (recursiveComparisonConfiguration.isInParallelMode()) {
+      return determineDifferencesInParallel(actual, expected, recursiveComparisonConfiguration);
+    }
     return determineDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(), recursiveComparisonConfiguration);
   }
 
@@ -243,8 +256,62 @@ public class RecursiveComparisonDifferenceCalculator {
                                                                  RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
     ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
     comparisonState.initDualValuesToCompare(actual, expected, fieldLocation);
+    compareDualValues(comparisonState);
+    return comparisonState.getDifferences();
+  }
 
-    while (comparisonState.hasDualValuesToCompare()) {
+  private static List<ComparisonDifference> determineDifferencesInParallel(Object actual, Object expected,
+                                                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    int parallelism = recursiveComparisonConfiguration.getParallelism();
+    int subtreesGroupsCount = SUBTREES_GROUPS_PER_THREAD * parallelism;
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
+    comparisonState.initDualValuesToCompare(actual, expected, rootFieldLocation());
+    // compare sequentially until there are enough subtrees to share between threads, the subtrees left to compare are
+    // independent of each other, the deque order being the order in which the sequential comparison would visit them.
+    comparisonState.splitThreshold = subtreesGroupsCount;
+    compareDualValues(comparisonState);
+    if (!comparisonState.hasDualValuesToCompare()) return comparisonState.getDifferences();
+
+    List<DualValue> subtrees = new ArrayList<>(comparisonState.dualValuesToCompare);
+    int subtreesGroupSize = (subtrees.size() + subtreesGroupsCount - 1) / subtreesGroupsCount;
+    VisitedDualValues.Forks forks = new VisitedDualValues.Forks();
+    ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+    try {
+      List<ForkJoinTask<List<ComparisonDifference>>> subtreesComparisons = new ArrayList<>();
+      for (int i = 0; i < subtrees.size(); i += subtreesGroupSize) {
+        List<DualValue> subtreesGroup = subtrees.subList(i, Math.min(i + subtreesGroupSize, subtrees.size()));
+        VisitedDualValues subtreesVisitedDualValues = visitedDualValues.fork(forks);
+        subtreesComparisons.add(forkJoinPool.submit(() -> compareSubtrees(subtreesGroup, subtreesVisitedDualValues,
+                                                                          recursiveComparisonConfiguration)));
+      }
+      // merge the differences in the order the sequential comparison would have found them before sorting them
+      List<ComparisonDifference> differences = new ArrayList<>(comparisonState.differences);
+      subtreesComparisons.forEach(subtreesComparison -> differences.addAll(subtreesComparison.join()));
+      if (forks.overlapping()) {
+        // some values were visited from different subtrees, the differences reported depend on the visit order
+        return determineDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(),
+                                    recursiveComparisonConfiguration);
+      }
+      Collections.sort(differences);
+      return differences;
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  private static List<ComparisonDifference> compareSubtrees(List<DualValue> subtrees, VisitedDualValues visitedDualValues,
+                                                            RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
+    subtrees.forEach(comparisonState.dualValuesToCompare::addLast);
+    compareDualValues(comparisonState);
+    // not sorted yet, differences are sorted once merged with the other subtrees ones
+    return comparisonState.differences;
+  }
+
+  private static void compareDualValues(ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    while (comparisonState.shouldCompareNextDualValue()) {
 
       final DualValue dualValue = comparisonState.pickDualValueToCompare();
       if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
@@ -306,74 +373,63 @@ public class RecursiveComparisonDifferenceCalculator {
       }
       // TODO move hasFieldTypesDifference check into each compareXXX
 
-      if (dualValue.isExpectedFieldAnArray()) {
-        if (recursiveComparisonConfiguration.shouldIgnoreArrayOrder()) {
-          compareUnorderedArrays(dualValue, comparisonState);
-        } else {
-          compareArrays(dualValue, comparisonState);
-        }
-        continue;
-      }
-
-      // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
-      // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
-      if (dualValue.isExpectedFieldAnOrderedCollection()
-          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
-        compareOrderedCollections(dualValue, comparisonState);
-        continue;
-      }
-
-      if (dualValue.isExpectedFieldAnIterable()) {
-        compareUnorderedIterables(dualValue, comparisonState);
-        continue;
-      }
-
-      if (dualValue.isExpectedFieldAnOptional()) {
-        compareOptional(dualValue, comparisonState);
-        continue;
-      }
-
-      // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
-      if (dualValue.isExpectedFieldASortedMap()) {
-        compareSortedMap(dualValue, comparisonState);
-        continue;
-      }
-
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
-      // temporary Map must be created, however the comparison still runs in O(N) time.
-      if (dualValue.isExpectedFieldAMap()) {
-        compareUnorderedMap(dualValue, comparisonState);
-        continue;
-      }
-
-      // compare Atomic types by value manually as they are container type and we can't use introspection in java 17+
-      if (dualValue.isExpectedFieldAnAtomicBoolean()) {
-        compareAtomicBoolean(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicInteger()) {
-        compareAtomicInteger(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicIntegerArray()) {
-        compareAtomicIntegerArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLong()) {
-        compareAtomicLong(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLongArray()) {
-        compareAtomicLongArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReference()) {
-        compareAtomicReference(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReferenceArray()) {
-        compareAtomicReferenceArray(dualValue, comparisonState);
-        continue;
+      // the way to compare the dual value only depends on the expected value type, it is computed once per type
+      switch (dualValue.expectedPlan.kind) {
+        case ARRAY:
+          if (recursiveComparisonConfiguration.shouldIgnoreArrayOrder()) {
+            compareUnorderedArrays(dualValue, comparisonState);
+          } else {
+            compareArrays(dualValue, comparisonState);
+          }
+          continue;
+        case ORDERED_COLLECTION:
+          // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
+          // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
+          if (recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
+            compareUnorderedIterables(dualValue, comparisonState);
+          } else {
+            compareOrderedCollections(dualValue, comparisonState);
+          }
+          continue;
+        case ITERABLE:
+          compareUnorderedIterables(dualValue, comparisonState);
+          continue;
+        case OPTIONAL:
+          compareOptional(dualValue, comparisonState);
+          continue;
+        case SORTED_MAP:
+          // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
+          compareSortedMap(dualValue, comparisonState);
+          continue;
+        case MAP:
+          // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
+          // temporary Map must be created, however the comparison still runs in O(N) time.
+          compareUnorderedMap(dualValue, comparisonState);
+          continue;
+        // compare Atomic types by value manually as they are container type and we can't use introspection in java 17+
+        case ATOMIC_BOOLEAN:
+          compareAtomicBoolean(dualValue, comparisonState);
+          continue;
+        case ATOMIC_INTEGER:
+          compareAtomicInteger(dualValue, comparisonState);
+          continue;
+        case ATOMIC_INTEGER_ARRAY:
+          compareAtomicIntegerArray(dualValue, comparisonState);
+          continue;
+        case ATOMIC_LONG:
+          compareAtomicLong(dualValue, comparisonState);
+          continue;
+        case ATOMIC_LONG_ARRAY:
+          compareAtomicLongArray(dualValue, comparisonState);
+          continue;
+        case ATOMIC_REFERENCE:
+          compareAtomicReference(dualValue, comparisonState);
+          continue;
+        case ATOMIC_REFERENCE_ARRAY:
+          compareAtomicReferenceArray(dualValue, comparisonState);
+          continue;
+        default:
+          // compared below with equals or field by field
       }
 
       boolean shouldHonorJavaTypeEquals = shouldHonorJavaTypeEquals(dualValue);
@@ -426,7 +482,6 @@ public class RecursiveComparisonDifferenceCalculator {
         }
       }
     }
-    return comparisonState.getDifferences();
   }
 
   // avoid comparing enum recursively since they contain static fields which are ignored in recursive comparison
@@ -598,65 +653,28 @@ public class RecursiveComparisonDifferenceCalculator {
 
   private static void doCompareUnorderedIterables(DualValue dualValue, Iterable<?> actual, Iterable<?> expected,
                                                   ComparisonState comparisonState) {
-    List<Object> expectedElementsNotFound = list();
-    for (Object expectedElement : expected) {
-      boolean expectedElementMatched = false;
-      // speed up comparison by selecting actual elements matching expected hash code, note that the hash code might not be
-      // relevant if fields used to compute it are ignored in the recursive comparison, it's a good heuristic though to check
-      // the first actual elements that could match the expected one, worst case we compare all actual elements.
-      // actualElementsGroupedByHashCode must be initialized for each expectedElement, as we remove elements from its
-      // entries when a match with expectedElement is found, the next expectedElement comparison is done on a smaller
-      // set of entries which leads to incorrect results.
-      Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode = actualElementsGroupedByHashCode(actual);
-      Integer expectedHash = Objects.hashCode(expectedElement);
-      List<?> actualHashBucket = actualElementsGroupedByHashCode.get(expectedHash);
-      if (actualHashBucket != null) {
-        Iterator<?> actualIterator = actualHashBucket.iterator();
-        expectedElementMatched = searchExpectedElementIn(actualIterator, expectedElement, dualValue, comparisonState);
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
+    BiPredicate<Object, Object> elementsMatch = (actualElement, expectedElement) -> determineDifferences(actualElement,
+                                                                                                       expectedElement,
+                                                                                                       dualValue.fieldLocation,
+                                                                                                       comparisonState.visitedDualValues,
+                                                                                                       recursiveComparisonConfiguration).isEmpty();
+    UnorderedElementsMatcher unorderedElementsMatcher = new UnorderedElementsMatcher(elementsMatch,
+                                                                                     recursiveComparisonConfiguration.getCollectionElementsMatchingKeyType(),
+                                                                                     recursiveComparisonConfiguration.getCollectionElementsMatchingKeyExtractor());
+    MatchingResult matchingResult = unorderedElementsMatcher.match(actual, expected);
+    if (!matchingResult.allExpectedElementsMatched()) {
+      String unmatched = "The following expected elements were not matched in the actual %s:%n  %s".formatted(actual.getClass()
+                                                                                                                   .getSimpleName(),
+                                                                                                             comparisonState.toStringOf(matchingResult.unmatchedExpectedElements));
+      if (!matchingResult.unmatchedActualElements.isEmpty()) {
+        unmatched += "%nThe following actual elements were not matched in the expected %s:%n  %s".formatted(expected.getClass()
+                                                                                                                     .getSimpleName(),
+                                                                                                               comparisonState.toStringOf(matchingResult.unmatchedActualElements));
       }
-      // It may be that expectedElement matches an actual element in a different hash bucket, to account for this, we check the
-      // other actual elements for matches. This may result in O(n^2) complexity in the worst case.
-      if (!expectedElementMatched) {
-        for (Entry<Integer, ? extends List<?>> actualElementsEntry : actualElementsGroupedByHashCode.entrySet()) {
-          // avoid checking the same bucket twice
-          if (actualElementsEntry.getKey().equals(expectedHash)) continue;
-          Iterator<?> actualElementsIterator = actualElementsEntry.getValue().iterator();
-          expectedElementMatched = searchExpectedElementIn(actualElementsIterator, expectedElement, dualValue, comparisonState);
-          if (expectedElementMatched) break;
-        }
-        if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
-      }
-    }
-    if (!expectedElementsNotFound.isEmpty()) {
-      String type = actual.getClass().getSimpleName();
-      String unmatched = "The following expected elements were not matched in the actual %s:%n  %s".formatted(type,
-                                                                                                              comparisonState.toStringOf(expectedElementsNotFound));
       comparisonState.addDifference(dualValue, unmatched);
-      // TODO could improve the error by listing the actual elements not in expected but that would need
-      // another double loop inverting actual and expected to find the actual elements not matched in expected
-    }
-  }
-
-  private static Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode(Iterable<?> actual) {
-    return stream(actual.spliterator(), false).collect(groupingBy(Objects::hashCode, toList()));
-  }
-
-  private static boolean searchExpectedElementIn(Iterator<?> actualIterator, Object expectedElement,
-                                                 DualValue dualValue, ComparisonState comparisonState) {
-    while (actualIterator.hasNext()) {
-      Object actualElement = actualIterator.next();
-      // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
-      List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement,
-                                                                    dualValue.fieldLocation,
-                                                                    comparisonState.visitedDualValues,
-                                                                    comparisonState.recursiveComparisonConfiguration);
-      if (differences.isEmpty()) {
-        // found an element in actual matching expectedElement, remove it as it can't be used to match other expected elements
-        actualIterator.remove();
-        return true;
-      }
     }
-    return false;
   }
 
   // TODO replace by ordered map
@@ -736,9 +754,7 @@ public class RecursiveComparisonDifferenceCalculator {
     }
     return map.entrySet().stream()
               .filter(e -> e.getKey() == null
-                           || !configuration.matchesAnIgnoredField(fieldLocation.field(e.getKey().toString())))
-              .filter(e -> e.getKey() == null
-                           || !configuration.matchesAnIgnoredFieldRegex(fieldLocation.field(e.getKey().toString())))
+                           || !configuration.matchesAnIgnoredFieldOrFieldRegex(fieldLocation.field(e.getKey().toString())))
               .collect(toMap(Entry::getKey, Entry::getValue));
   }
 
@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Matches the elements of two iterables regardless of their order.
+ * <p>
+ * Actual elements are indexed once by their matching key, each expected element is then compared to the actual elements having
+ * the same key. Matched actual elements are removed from the index as they can't be used to match other expected elements.
+ * <p>
+ * The matching key is computed with the given matching key extractor when all the non-null elements of both iterables are
+ * instances of the type it applies to, null elements having a null key. Otherwise, the matching key is the element hash code.
+ * <p>
+ * Hash codes might not be relevant if the fields used to compute them are ignored in the recursive comparison, when an expected
+ * element is not matched in its hash bucket, the remaining actual elements are checked, this may result in O(n&sup2;)
+ * complexity in the worst case. A user supplied matching key is trusted and no such fallback is performed.
+ * <p>
+ * Like comparing each expected element to each actual element, the matching is greedy: each expected element is matched in turn
+ * with the first matching actual element not matched yet. When elements match with a tolerance, an expected element can take an
+ * actual element that was the only match of another expected element, which is then reported as unmatched even though another
+ * pairing would have matched all elements.
+ */
+final class UnorderedElementsMatcher {
+
+  private static final Function<Object, ?> HASH_CODE = Objects::hashCode;
+
+  private final BiPredicate<Object, Object> elementsMatch;
+  private final Class<?> matchingKeyType;
+  private final Function<Object, ?> matchingKeyExtractor;
+
+  /**
+   * @param elementsMatch tells whether an actual element (first argument) matches an expected one (second argument)
+   * @param matchingKeyType the type of the elements the matching key extractor applies to, null to match elements by hash code
+   * @param matchingKeyExtractor the function computing the key actual and expected elements are matched by, null to match
+   *          elements by hash code
+   */
+  UnorderedElementsMatcher(BiPredicate<Object, Object> elementsMatch, Class<?> matchingKeyType,
+                           Function<Object, ?> matchingKeyExtractor) {
+    this.elementsMatch = elementsMatch;
+    this.matchingKeyType = matchingKeyType;
+    this.matchingKeyExtractor = matchingKeyExtractor;
+  }
+
+  MatchingResult match(Iterable<?> actual, Iterable<?> expected) {
+    List<Object> actualElements = newArrayList(actual);
+    List<Object> expectedElements = newArrayList(expected);
+    // the matching key extractor may not apply to these elements (ex: a nested collection of another type)
+    boolean matchByKey = matchingKeyExtractor != null
+                         && allInstancesOf(matchingKeyType, actualElements)
+                         && allInstancesOf(matchingKeyType, expectedElements);
+    Function<Object, ?> keyExtractor = matchByKey ? this::matchingKeyOf : HASH_CODE;
+    Object[] actualKeys = keysOf(actualElements, keyExtractor);
+    Object[] expectedKeys = keysOf(expectedElements, keyExtractor);
+    boolean searchOtherKeys = !matchByKey;
+
+    // index the actual elements positions by key, once.
+    Map<Object, List<Integer>> actualElementsIndexesByKey = new HashMap<>();
+    for (int i = 0; i < actualKeys.length; i++) {
+      actualElementsIndexesByKey.computeIfAbsent(actualKeys[i], key -> new ArrayList<>()).add(i);
+    }
+
+    boolean[] matchedActualElements = new boolean[actualElements.size()];
+    List<Object> unmatchedExpectedElements = new ArrayList<>();
+    for (int i = 0; i < expectedKeys.length; i++) {
+      Object expectedElement = expectedElements.get(i);
+      boolean expectedElementMatched = false;
+      List<Integer> actualElementsIndexes = actualElementsIndexesByKey.get(expectedKeys[i]);
+      if (actualElementsIndexes != null) {
+        Iterator<Integer> actualElementsIndexesIterator = actualElementsIndexes.iterator();
+        while (actualElementsIndexesIterator.hasNext()) {
+          int actualElementIndex = actualElementsIndexesIterator.next();
+          if (elementsMatch.test(actualElements.get(actualElementIndex), expectedElement)) {
+            actualElementsIndexesIterator.remove();
+            matchedActualElements[actualElementIndex] = true;
+            expectedElementMatched = true;
+            break;
+          }
+        }
+      }
+      if (!expectedElementMatched && searchOtherKeys) {
+        expectedElementMatched = matchInOtherKeys(expectedElement, expectedKeys[i], actualElements, actualKeys,
+                                                  matchedActualElements, actualElementsIndexesByKey);
+      }
+      if (!expectedElementMatched) unmatchedExpectedElements.add(expectedElement);
+    }
+
+    List<Object> unmatchedActualElements = new ArrayList<>();
+    for (int i = 0; i < matchedActualElements.length; i++) {
+      if (!matchedActualElements[i]) unmatchedActualElements.add(actualElements.get(i));
+    }
+    return new MatchingResult(unmatchedExpectedElements, unmatchedActualElements);
+  }
+
+  private boolean matchInOtherKeys(Object expectedElement, Object expectedKey, List<Object> actualElements,
+                                   Object[] actualKeys, boolean[] matchedActualElements,
+                                   Map<Object, List<Integer>> actualElementsIndexesByKey) {
+    for (int i = 0; i < actualKeys.length; i++) {
+      // avoid checking the same bucket twice
+      if (matchedActualElements[i] || Objects.equals(actualKeys[i], expectedKey)) continue;
+      if (elementsMatch.test(actualElements.get(i), expectedElement)) {
+        actualElementsIndexesByKey.get(actualKeys[i]).remove(Integer.valueOf(i));
+        matchedActualElements[i] = true;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Object matchingKeyOf(Object element) {
+    return element == null ? null : matchingKeyExtractor.apply(element);
+  }
+
+  private static boolean allInstancesOf(Class<?> type, List<Object> elements) {
+    for (Object element : elements) {
+      if (element != null && !type.isInstance(element)) return false;
+    }
+    return true;
+  }
+
+  private static Object[] keysOf(List<Object> elements, Function<Object, ?> keyExtractor) {
+    Object[] keys = new Object[elements.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = keyExtractor.apply(elements.get(i));
+    }
+    return keys;
+  }
+
+  static final class MatchingResult {
+    final List<Object> unmatchedExpectedElements;
+    final List<Object> unmatchedActualElements;
+
+    private MatchingResult(List<Object> unmatchedExpectedElements, List<Object> unmatchedActualElements) {
+      this.unmatchedExpectedElements = unmatchedExpectedElements;
+      this.unmatchedActualElements = unmatchedActualElements;
+    }
+
+    boolean allExpectedElementsMatched() {
+      return unmatchedExpectedElements.isEmpty();
+    }
+  }
+}
@@ -12,36 +12,132 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.lang.System.identityHashCode;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 class VisitedDualValues {
 
-  private final List<VisitedDualValue> dualValues;
+  // dual values are indexed by their actual/expected identities, agnostic of location, to take care of values visited several
+  // times, this gives constant time lookups instead of scanning all visited dual values.
+  private final Map<VisitedValues, VisitedDualValue> dualValues;
+  // when comparing subtrees in parallel, the dual values visited before splitting the comparison, they are only read.
+  private final VisitedDualValues parent;
+  private final Forks forks;
 
   VisitedDualValues() {
-    this.dualValues = new ArrayList<>();
+    this(null, null);
+  }
+
+  private VisitedDualValues(VisitedDualValues parent, Forks forks) {
+    this.dualValues = new HashMap<>();
+    this.parent = parent;
+    this.forks = forks;
+  }
+
+  /**
+   * Creates the visited dual values of a subtree compared in parallel with other subtrees.
+   * <p>
+   * All the forks created with the same {@link Forks} detect whether they visit the same values since the differences
+   * reported in that case depend on the order the values are visited.
+   *
+   * @param forks the shared tracking of the values visited by each fork
+   * @return the visited dual values of a subtree compared in parallel
+   */
+  VisitedDualValues fork(Forks forks) {
+    return new VisitedDualValues(this, forks);
   }
 
   void registerVisitedDualValue(DualValue dualValue) {
-    this.dualValues.add(new VisitedDualValue(dualValue));
+    VisitedValues visitedValues = new VisitedValues(dualValue);
+    // keep the first registration like the previous list based implementation did
+    this.dualValues.putIfAbsent(visitedValues, new VisitedDualValue(dualValue));
+    if (forks != null) forks.claim(visitedValues, this);
   }
 
   void registerComparisonDifference(DualValue dualValue, ComparisonDifference comparisonDifference) {
-    this.dualValues.stream()
-                   // register difference on dual values agnostic of location, to take care of values visited several times
-                   .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                   .findFirst()
-                   .ifPresent(visitedDualValue -> visitedDualValue.comparisonDifferences.add(comparisonDifference));
+    VisitedValues visitedValues = new VisitedValues(dualValue);
+    VisitedDualValue visitedDualValue = this.dualValues.get(visitedValues);
+    if (visitedDualValue != null) {
+      visitedDualValue.comparisonDifferences.add(comparisonDifference);
+      return;
+    }
+    if (parent == null) return;
+    // the parent is shared between forks, adding a difference to it would only matter if it had none as only their
+    // presence is checked, in that case the outcome depends on the visit order which can't be guaranteed in parallel.
+    VisitedDualValue parentVisitedDualValue = parent.dualValues.get(visitedValues);
+    if (parentVisitedDualValue != null && parentVisitedDualValue.comparisonDifferences.isEmpty()) forks.overlap();
   }
 
   Optional<List<ComparisonDifference>> registeredComparisonDifferencesOf(DualValue dualValue) {
-    return this.dualValues.stream()
-                          // use sameValues to get already visited dual values with different location
-                          .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                          .findFirst()
-                          .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+    VisitedValues visitedValues = new VisitedValues(dualValue);
+    // match already visited dual values with different location
+    VisitedDualValue visitedDualValue = this.dualValues.get(visitedValues);
+    if (visitedDualValue == null && parent != null) {
+      visitedDualValue = parent.dualValues.get(visitedValues);
+      // values only visited by this fork so far, other forks visiting them too would make the comparison order dependent
+      if (visitedDualValue == null && dualValue.hasPotentialCyclingValues()) forks.claim(visitedValues, this);
+    }
+    return Optional.ofNullable(visitedDualValue).map(value -> value.comparisonDifferences);
+  }
+
+  boolean overlapsOtherForks() {
+    return forks != null && forks.overlapping();
+  }
+
+  /**
+   * Tracks which fork visited values first, as soon as two forks visit the same values the parallel comparison can't be
+   * guaranteed to report the same differences as the sequential one.
+   */
+  static final class Forks {
+    private final ConcurrentMap<VisitedValues, VisitedDualValues> visitedValuesOwners = new ConcurrentHashMap<>();
+    private volatile boolean overlapping;
+
+    private void claim(VisitedValues visitedValues, VisitedDualValues fork) {
+      VisitedDualValues owner = visitedValuesOwners.putIfAbsent(visitedValues, fork);
+      if (owner != null && owner != fork) overlap();
+    }
+
+    private void overlap() {
+      overlapping = true;
+    }
+
+    boolean overlapping() {
+      return overlapping;
+    }
+  }
+
+  /**
+   * Key based on the identities of the actual and expected values, see {@link DualValue#sameValues(DualValue)}.
+   */
+  private static final class VisitedValues {
+    private final Object actual;
+    private final Object expected;
+    private final int hashCode;
+
+    VisitedValues(DualValue dualValue) {
+      this.actual = dualValue.actual;
+      this.expected = dualValue.expected;
+      this.hashCode = 31 * identityHashCode(actual) + identityHashCode(expected);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof VisitedValues)) return false;
+      VisitedValues that = (VisitedValues) other;
+      return actual == that.actual && expected == that.expected;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
   }
 
   private static class VisitedDualValue {
@@ -12,19 +12,99 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.invoke.MethodType.genericMethodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Access to constructors using Java reflection.
+ * <p>
+ * Constructors are looked up once, the later instantiations go through a cached {@code MethodHandle}. A constructor that can't
+ * be found, for example because its class is not in the classpath, is not looked up again either, a new exception of the
+ * same type as the lookup failure is thrown instead.
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 public class ConstructorInvoker {
 
+  // classes are loaded with the class loader of this class, which is also the one of this cache
+  private static final Map<ConstructorKey, ResolvedConstructor> CONSTRUCTORS = new ConcurrentHashMap<>();
+
   public Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
+    ResolvedConstructor constructor = CONSTRUCTORS.computeIfAbsent(new ConstructorKey(className, parameterTypes),
+                                                                   ConstructorInvoker::resolve);
     return constructor.newInstance(parameterValues);
   }
+
+  private static ResolvedConstructor resolve(ConstructorKey key) {
+    try {
+      Class<?> targetType = Class.forName(key.className());
+      Constructor<?> constructor = targetType.getConstructor(key.parameterTypes());
+      MethodHandle constructorHandle = MethodHandles.publicLookup().unreflectConstructor(constructor)
+                                                    .asType(genericMethodType(key.parameterTypes().length))
+                                                    .asSpreader(Object[].class, key.parameterTypes().length);
+      return new ResolvedConstructor(constructorHandle, null, null);
+    } catch (ClassNotFoundException e) {
+      return new ResolvedConstructor(null, ClassNotFoundException::new, e.getMessage());
+    } catch (NoSuchMethodException e) {
+      return new ResolvedConstructor(null, NoSuchMethodException::new, e.getMessage());
+    } catch (Exception e) {
+      return new ResolvedConstructor(null, ReflectiveOperationException::new, e.toString());
+    }
+  }
+
+  private static final class ResolvedConstructor {
+
+    private final MethodHandle constructor;
+    // only the lookup failure type and message are kept, throwing the same exception instance on each call would share
+    // its stack trace and let callers accumulate suppressed exceptions in it
+    private final Function<String, ? extends Exception> lookupFailure;
+    private final String lookupFailureMessage;
+
+    private ResolvedConstructor(MethodHandle constructor, Function<String, ? extends Exception> lookupFailure,
+                                String lookupFailureMessage) {
+      this.constructor = constructor;
+      this.lookupFailure = lookupFailure;
+      this.lookupFailureMessage = lookupFailureMessage;
+    }
+
+    private Object newInstance(Object[] parameterValues) throws Exception {
+      if (constructor == null) throw lookupFailure.apply(lookupFailureMessage);
+      try {
+        return constructor.invokeExact(parameterValues);
+      } catch (Exception | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new InvocationTargetException(e);
+      }
+    }
+  }
+
+  private record ConstructorKey(String className, Class<?>[] parameterTypes) {
+
+    private ConstructorKey {
+      parameterTypes = parameterTypes.clone();
+    }
+
+    // records compare array components by reference, parameter types are compared by content
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof ConstructorKey other)) return false;
+      return className.equals(other.className) && Arrays.equals(parameterTypes, other.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * className.hashCode() + Arrays.hashCode(parameterTypes);
+    }
+  }
 }
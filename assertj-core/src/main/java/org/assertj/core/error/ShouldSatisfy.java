@@ -12,6 +12,7 @@
  */
 package org.assertj.core.error;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.assertj.core.api.Condition;
@@ -25,6 +26,10 @@ public class ShouldSatisfy extends BasicErrorMessageFactory {
 
   private static final String CONDITION_SHOULD_BE_SATISFIED = "%nExpecting actual:%n  %s%nto satisfy:%n  %s";
   private static final String CONSUMERS_SHOULD_BE_SATISFIED_IN_ANY_ORDER = "%nExpecting actual:%n  %s%nto satisfy all the consumers in any order.";
+  private static final String CONSUMERS_SHOULD_BE_MATCHED_IN_ANY_ORDER = "%nExpecting actual:%n  %s%n" +
+                                                                         "to satisfy all the consumers in any order, " +
+                                                                         "but no distinct elements satisfy the consumers at indexes:%n" +
+                                                                         "  %s";
 
   public static <T> ErrorMessageFactory shouldSatisfy(T actual, Condition<? super T> condition) {
     return new ShouldSatisfy(actual, condition);
@@ -41,6 +46,18 @@ public class ShouldSatisfy extends BasicErrorMessageFactory {
     return new ShouldSatisfy(actual);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldSatisfy}</code> reporting the consumers that could not be matched to distinct elements.
+   *
+   * @param <E> the iterable elements type.
+   * @param actual the actual iterable in the failed assertion.
+   * @param unmatchedConsumers the indexes of the consumers that could not be matched to distinct elements.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static <E> ErrorMessageFactory shouldSatisfyExactlyInAnyOrder(Iterable<E> actual, List<Integer> unmatchedConsumers) {
+    return new ShouldSatisfy(actual, unmatchedConsumers);
+  }
+
   private ShouldSatisfy(Object actual, Condition<?> condition) {
     super(CONDITION_SHOULD_BE_SATISFIED, actual, condition);
   }
@@ -56,4 +73,8 @@ public class ShouldSatisfy extends BasicErrorMessageFactory {
   private <E> ShouldSatisfy(Iterable<E> actual) {
     super(CONSUMERS_SHOULD_BE_SATISFIED_IN_ANY_ORDER, actual);
   }
+
+  private <E> ShouldSatisfy(Iterable<E> actual, List<Integer> unmatchedConsumers) {
+    super(CONSUMERS_SHOULD_BE_MATCHED_IN_ANY_ORDER, actual, unmatchedConsumers);
+  }
 }
@@ -69,7 +69,14 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThan;
 import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqualTo;
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
+import static org.assertj.core.internal.IterableDiff.canCompareElementsByHashCode;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.PrimitiveArrayElements.canLookUpElementsOf;
+import static org.assertj.core.internal.PrimitiveArrayElements.elementsIn;
+import static org.assertj.core.internal.PrimitiveArrayElements.elementsInExcess;
+import static org.assertj.core.internal.PrimitiveArrayElements.elementsNotIn;
+import static org.assertj.core.internal.PrimitiveArrayElements.haveEqualElementsInOrder;
+import static org.assertj.core.internal.SortedElementsMatcher.sortedElementsMatcher;
 import static org.assertj.core.util.ArrayWrapperList.wrap;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayEmpty;
@@ -83,9 +90,11 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.assertj.core.api.AssertionInfo;
@@ -202,10 +211,15 @@ public class Arrays {
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
     Set<Object> notFound = new LinkedHashSet<>();
-    int valueCount = sizeOf(values);
-    for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(actual, value)) notFound.add(value);
+    if (canLookUpElementsOf(comparisonStrategy, actual, values)) {
+      // primitive elements compared with equals, no need to box them
+      notFound.addAll(elementsNotIn(values, actual));
+    } else {
+      int valueCount = sizeOf(values);
+      for (int i = 0; i < valueCount; i++) {
+        Object value = Array.get(values, i);
+        if (!arrayContains(actual, value)) notFound.add(value);
+      }
     }
     if (!notFound.isEmpty())
       throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
@@ -248,13 +262,35 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterableRemoves(notExpected, value);
-        iterableRemoves(notFound, value);
+    List<Object> notExpected;
+    List<Object> notFound;
+    if (canLookUpElementsOf(comparisonStrategy, actual, values)) {
+      // primitive elements compared with equals, no need to box them
+      notExpected = elementsNotIn(actual, values);
+      notFound = elementsNotIn(values, actual);
+    } else {
+      notExpected = asList(actual);
+      notFound = asList(values);
+      if (canCompareElementsByHashCode(comparisonStrategy, notExpected, notFound)) {
+        // same result as below with hash lookups instead of comparing each value to each actual element, elements not found
+        // by hash code are still compared one by one in case they override equals but not hashCode
+        Set<Object> actualElements = new HashSet<>(notExpected);
+        Set<Object> expectedElements = new HashSet<>(notFound);
+        notExpected.removeIf(element -> expectedElements.contains(element) || iterableContains(expectedElements, element));
+        notFound.removeIf(value -> actualElements.contains(value) || iterableContains(actualElements, value));
+      } else {
+        Optional<SortedElementsMatcher<Object>> matcher = sortedElementsMatcher(comparisonStrategy, notExpected, notFound);
+        if (matcher.isPresent()) {
+          notExpected = matcher.get().actualElementsNotExpected();
+          notFound = matcher.get().expectedElementsNotFound();
+        } else {
+          for (Object value : asList(values)) {
+            if (iterableContains(notExpected, value)) {
+              iterableRemoves(notExpected, value);
+              iterableRemoves(notFound, value);
+            }
+          }
+        }
       }
     }
 
@@ -281,6 +317,8 @@ public class Arrays {
     if (commonChecks(info, failures, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    // primitive elements compared with equals, no need to box them when they are the same
+    if (canLookUpElementsOf(comparisonStrategy, actual, values) && haveEqualElementsInOrder(actual, values)) return;
 
     List<Object> actualAsList = asList(actual);
     IterableDiff<?> diff = diff(actualAsList, asList(values), comparisonStrategy);
@@ -302,13 +340,32 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
+    List<Object> notExpected;
+    List<Object> notFound;
+    if (canLookUpElementsOf(comparisonStrategy, actual, values)) {
+      // primitive elements compared with equals, no need to box them
+      notExpected = elementsInExcess(actual, values);
+      notFound = elementsInExcess(values, actual);
+    } else {
+      notExpected = asList(actual);
+      notFound = asList(values);
+      if (canCompareElementsByHashCode(comparisonStrategy, notExpected, notFound)) {
+        IterableDiff<Object> diff = diff(notExpected, notFound, comparisonStrategy);
+        notExpected = diff.unexpected;
+        notFound = diff.missing;
+      } else {
+        Optional<SortedElementsMatcher<Object>> matcher = sortedElementsMatcher(comparisonStrategy, notExpected, notFound);
+        if (matcher.isPresent()) {
+          notExpected = matcher.get().actualElementsInExcess();
+          notFound = matcher.get().expectedElementsInExcess();
+        } else {
+          for (Object value : asList(values)) {
+            if (iterableContains(notExpected, value)) {
+              iterablesRemoveFirst(notExpected, value);
+              iterablesRemoveFirst(notFound, value);
+            }
+          }
+        }
       }
     }
 
@@ -463,10 +520,15 @@ public class Arrays {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
     Set<Object> found = new LinkedHashSet<>();
-    int valuesSize = sizeOf(values);
-    for (int i = 0; i < valuesSize; i++) {
-      Object value = Array.get(values, i);
-      if (arrayContains(array, value)) found.add(value);
+    if (canLookUpElementsOf(comparisonStrategy, array, values)) {
+      // primitive elements compared with equals, no need to box them
+      found.addAll(elementsIn(values, array));
+    } else {
+      int valuesSize = sizeOf(values);
+      for (int i = 0; i < valuesSize; i++) {
+        Object value = Array.get(values, i);
+        if (arrayContains(array, value)) found.add(value);
+      }
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
@@ -535,12 +597,18 @@ public class Arrays {
   public void assertIsSubsetOf(AssertionInfo info, Failures failures, Object actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
+    Optional<SortedElementsMatcher<Object>> sortedElementsMatcher = sortedElementsMatcher(comparisonStrategy, asList(actual),
+                                                                                         newArrayList(values));
     List<Object> extra = newArrayList();
-    int sizeOfActual = sizeOf(actual);
-    for (int i = 0; i < sizeOfActual; i++) {
-      Object actualElement = Array.get(actual, i);
-      if (!iterableContains(values, actualElement)) {
-        extra.add(actualElement);
+    if (sortedElementsMatcher.isPresent()) {
+      extra = sortedElementsMatcher.get().actualElementsNotExpected();
+    } else {
+      int sizeOfActual = sizeOf(actual);
+      for (int i = 0; i < sizeOfActual; i++) {
+        Object actualElement = Array.get(actual, i);
+        if (!iterableContains(values, actualElement)) {
+          extra.add(actualElement);
+        }
       }
     }
     if (!extra.isEmpty()) {
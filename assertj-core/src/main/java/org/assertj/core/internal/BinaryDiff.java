@@ -12,34 +12,54 @@
  */
 package org.assertj.core.internal;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * Compares the binary content of two inputStreams/paths.
+ * <p>
+ * Contents are compared chunk by chunk so that neither of them is fully loaded in memory.
  * 
  * @author Olivier Michallat
  */
 // TODO reduce the visibility of the fields annotated with @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int BUFFER_SIZE = 8192;
+  private static final int EOF = -1;
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
   }
 
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
-    try (InputStream actualStream = new BufferedInputStream(Files.newInputStream(actual))) {
+    try (InputStream actualStream = Files.newInputStream(actual)) {
       return diff(actualStream, expected);
     }
   }
 
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    long offset = Files.mismatch(actual, expected);
+    if (offset == -1) return BinaryDiffResult.noDiff();
+    // only read the differing bytes to describe them
+    return new BinaryDiffResult(offset, byteAt(expected, offset), byteAt(actual, offset));
+  }
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, byte[] expected) throws IOException {
     return diff(actualStream, new ByteArrayInputStream(expected));
@@ -47,13 +67,32 @@ public class BinaryDiff {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    byte[] actualBuffer = new byte[BUFFER_SIZE];
+    byte[] expectedBuffer = new byte[BUFFER_SIZE];
+    long offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      // readNBytes only reads less than BUFFER_SIZE bytes when reaching the end of the stream
+      int actualLength = actualStream.readNBytes(actualBuffer, 0, BUFFER_SIZE);
+      int expectedLength = expectedStream.readNBytes(expectedBuffer, 0, BUFFER_SIZE);
+      int index = Arrays.mismatch(actualBuffer, 0, actualLength, expectedBuffer, 0, expectedLength);
+      if (index != -1) {
+        return new BinaryDiffResult(offset + index, byteAt(expectedBuffer, expectedLength, index),
+                                    byteAt(actualBuffer, actualLength, index));
+      }
+      if (actualLength < BUFFER_SIZE) return BinaryDiffResult.noDiff(); // reached end of both streams
+      offset += actualLength;
+    }
+  }
+
+  private static int byteAt(byte[] buffer, int length, int index) {
+    return index < length ? Byte.toUnsignedInt(buffer[index]) : EOF;
+  }
+
+  private static int byteAt(Path path, long offset) throws IOException {
+    try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+      ByteBuffer buffer = ByteBuffer.allocate(1);
+      channel.position(offset);
+      return channel.read(buffer) == 1 ? Byte.toUnsignedInt(buffer.get(0)) : EOF;
     }
   }
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.Arrays;
+
+/**
+ * Searches the occurrences of a sequence of characters in other {@link CharSequence}s without copying them.
+ * <p>
+ * {@link String}s are searched with {@link String#indexOf(String, int)}, other {@link CharSequence}s with the
+ * Boyer-Moore-Horspool algorithm directly on their characters. Characters are compared with {@code ==}, this is meant to be
+ * used with the standard comparison strategy.
+ */
+final class CharSequenceSearch {
+
+  private final CharSequence sequence;
+  // Horspool shift indexed by the low byte of the characters, lazily computed as Strings don't need it
+  private int[] shifts;
+
+  private CharSequenceSearch(CharSequence sequence) {
+    this.sequence = sequence;
+  }
+
+  static CharSequenceSearch searching(CharSequence sequence) {
+    return new CharSequenceSearch(sequence);
+  }
+
+  /**
+   * Returns the index of the first occurrence of the searched sequence in the given text, starting at the given index.
+   *
+   * @param text the text to search the sequence in
+   * @param fromIndex the index to start the search from
+   * @return the index of the first occurrence found or -1 if there is none.
+   */
+  int indexIn(CharSequence text, int fromIndex) {
+    if (fromIndex > text.length()) return -1;
+    if (text instanceof String string && sequence instanceof String searched) return string.indexOf(searched, fromIndex);
+    int sequenceLength = sequence.length();
+    if (sequenceLength == 0) return fromIndex <= text.length() ? fromIndex : -1;
+    int[] shifts = shifts();
+    int lastIndex = sequenceLength - 1;
+    char lastChar = sequence.charAt(lastIndex);
+    for (int index = fromIndex; index <= text.length() - sequenceLength;) {
+      char textChar = text.charAt(index + lastIndex);
+      if (textChar == lastChar && regionMatches(text, index, lastIndex)) return index;
+      index += shifts[textChar & 0xFF];
+    }
+    return -1;
+  }
+
+  /**
+   * Counts the occurrences of the searched sequence in the given text, overlapping occurrences included.
+   *
+   * @param text the text to search the sequence in
+   * @return the number of occurrences found.
+   */
+  int occurrencesIn(CharSequence text) {
+    int occurrences = 0;
+    int index = indexIn(text, 0);
+    while (index != -1) {
+      occurrences++;
+      index = indexIn(text, index + 1);
+    }
+    return occurrences;
+  }
+
+  private boolean regionMatches(CharSequence text, int index, int length) {
+    for (int i = 0; i < length; i++) {
+      if (text.charAt(index + i) != sequence.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  private int[] shifts() {
+    if (shifts == null) {
+      int lastIndex = sequence.length() - 1;
+      shifts = new int[256];
+      Arrays.fill(shifts, sequence.length());
+      // characters sharing the same low byte keep the smallest shift, the rightmost one
+      for (int i = 0; i < lastIndex; i++) {
+        shifts[sequence.charAt(i) & 0xFF] = lastIndex - i;
+      }
+    }
+    return shifts;
+  }
+}
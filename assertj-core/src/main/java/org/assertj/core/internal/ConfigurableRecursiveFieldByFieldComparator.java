@@ -15,7 +15,6 @@ package org.assertj.core.internal;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy.NOT_EQUAL;
 
-import java.util.Comparator;
 import java.util.Objects;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
@@ -24,7 +23,7 @@ import org.assertj.core.util.introspection.IntrospectionError;
 /**
  * Compares objects field/property by field/property recursively based on the given {@link RecursiveComparisonConfiguration} allowing fine tuning of the comparison.
  */
-public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<Object> {
+public class ConfigurableRecursiveFieldByFieldComparator implements NonTransitiveComparator<Object> {
 
   private RecursiveComparisonConfiguration configuration;
   private RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator;
@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.internal.Iterables.byPassingAssertions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Matches each consumer to a distinct element satisfying it, as many consumers as possible are matched.
+ * <p>
+ * Each consumer is evaluated once against each element, the matching is then a maximum bipartite matching between consumers
+ * and elements computed with the Hopcroft-Karp algorithm, it takes O(E * sqrt(V)) steps where E is the number of
+ * (consumer, satisfying element) pairs and V the number of consumers and elements.
+ *
+ * @param <E> element type
+ */
+class ConsumersToElementsMatching<E> {
+
+  private static final int UNMATCHED = -1;
+  private static final int INFINITY = Integer.MAX_VALUE;
+
+  // indexes of the elements satisfying each consumer
+  private final int[][] elementsSatisfyingConsumer;
+  private final int[] elementMatchedToConsumer;
+  private final int[] consumerMatchedToElement;
+  // breadth first search layer of each consumer, augmenting paths only go from one layer to the next
+  private final int[] layer;
+  private int shortestAugmentingPathLength;
+
+  ConsumersToElementsMatching(List<? extends E> elements, Consumer<? super E>[] consumers) {
+    elementsSatisfyingConsumer = new int[consumers.length][];
+    for (int i = 0; i < consumers.length; i++) {
+      elementsSatisfyingConsumer[i] = indexesOfElementsSatisfying(consumers[i], elements);
+    }
+    elementMatchedToConsumer = new int[consumers.length];
+    consumerMatchedToElement = new int[elements.size()];
+    layer = new int[consumers.length];
+    Arrays.fill(elementMatchedToConsumer, UNMATCHED);
+    Arrays.fill(consumerMatchedToElement, UNMATCHED);
+    computeMaximumMatching();
+  }
+
+  private static <E> int[] indexesOfElementsSatisfying(Consumer<? super E> consumer, List<? extends E> elements) {
+    Predicate<E> satisfiesConsumer = byPassingAssertions(consumer);
+    int[] indexes = new int[elements.size()];
+    int count = 0;
+    for (int i = 0; i < elements.size(); i++) {
+      if (satisfiesConsumer.test(elements.get(i))) indexes[count++] = i;
+    }
+    return Arrays.copyOf(indexes, count);
+  }
+
+  /**
+   * Returns the indexes of the consumers that could not be matched to an element, empty if every consumer is satisfied by a
+   * distinct element.
+   *
+   * @return the indexes of the unmatched consumers
+   */
+  List<Integer> unmatchedConsumers() {
+    List<Integer> unmatchedConsumers = new ArrayList<>();
+    for (int consumer = 0; consumer < elementMatchedToConsumer.length; consumer++) {
+      if (elementMatchedToConsumer[consumer] == UNMATCHED) unmatchedConsumers.add(consumer);
+    }
+    return unmatchedConsumers;
+  }
+
+  private void computeMaximumMatching() {
+    // each phase augments the matching along a maximal set of disjoint shortest augmenting paths
+    while (layerConsumers()) {
+      for (int consumer = 0; consumer < elementMatchedToConsumer.length; consumer++) {
+        if (elementMatchedToConsumer[consumer] == UNMATCHED) augmentMatchingFrom(consumer);
+      }
+    }
+  }
+
+  private boolean layerConsumers() {
+    Queue<Integer> consumers = new ArrayDeque<>();
+    for (int consumer = 0; consumer < elementMatchedToConsumer.length; consumer++) {
+      if (elementMatchedToConsumer[consumer] == UNMATCHED) {
+        layer[consumer] = 0;
+        consumers.add(consumer);
+      } else {
+        layer[consumer] = INFINITY;
+      }
+    }
+    shortestAugmentingPathLength = INFINITY;
+    while (!consumers.isEmpty()) {
+      int consumer = consumers.remove();
+      if (layer[consumer] >= shortestAugmentingPathLength) continue;
+      for (int element : elementsSatisfyingConsumer[consumer]) {
+        int matchedConsumer = consumerMatchedToElement[element];
+        if (matchedConsumer == UNMATCHED) {
+          // found a free element, no need to look for longer augmenting paths
+          if (shortestAugmentingPathLength == INFINITY) shortestAugmentingPathLength = layer[consumer] + 1;
+        } else if (layer[matchedConsumer] == INFINITY) {
+          layer[matchedConsumer] = layer[consumer] + 1;
+          consumers.add(matchedConsumer);
+        }
+      }
+    }
+    return shortestAugmentingPathLength != INFINITY;
+  }
+
+  private boolean augmentMatchingFrom(int consumer) {
+    for (int element : elementsSatisfyingConsumer[consumer]) {
+      int matchedConsumer = consumerMatchedToElement[element];
+      boolean isAugmentingPath = matchedConsumer == UNMATCHED
+          ? layer[consumer] + 1 == shortestAugmentingPathLength
+          : layer[matchedConsumer] == layer[consumer] + 1 && augmentMatchingFrom(matchedConsumer);
+      if (isAugmentingPath) {
+        elementMatchedToConsumer[consumer] = element;
+        consumerMatchedToElement[element] = consumer;
+        return true;
+      }
+    }
+    // no augmenting path goes through this consumer in the current phase
+    layer[consumer] = INFINITY;
+    return false;
+  }
+
+}
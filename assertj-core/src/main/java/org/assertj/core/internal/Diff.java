@@ -13,6 +13,7 @@
 package org.assertj.core.internal;
 
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
 
@@ -27,9 +28,15 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
 
 /**
  * Compares the contents of two files, inputStreams or paths.
@@ -45,6 +52,9 @@ import org.assertj.core.util.diff.Patch;
 // TODO reduce the visibility of the fields annotated with @VisibleForTesting
 public class Diff {
 
+  // big contents usually share most of their lines, linear space diff keeps comparing them fast and bounded in memory
+  private final DiffAlgorithm<String> linesDiff = new LinearSpaceMyersDiff<>();
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -85,22 +95,50 @@ public class Diff {
 
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
+      // compare the lines as they are read, only the lines from the first difference are kept in memory to be diffed
+      int equalLinesCount = 0;
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        equalLinesCount++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      if (actualLine == null && expectedLine == null) return emptyList();
+
+      List<String> actualLines = linesFromBufferedReader(actualLine, actual);
+      List<String> expectedLines = linesFromBufferedReader(expectedLine, expected);
 
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines, linesDiff);
+      List<Delta<String>> deltas = new ArrayList<>();
+      for (Delta<String> delta : patch.getDeltas()) {
+        deltas.add(shift(delta, equalLinesCount));
+      }
+      return unmodifiableList(deltas);
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
+  private List<String> linesFromBufferedReader(String firstLine, BufferedReader reader) throws IOException {
     List<String> lines = new ArrayList<>();
+    if (firstLine == null) return lines;
+    lines.add(firstLine);
+    String line;
     while ((line = reader.readLine()) != null) {
       lines.add(line);
     }
     return lines;
   }
+
+  private static Delta<String> shift(Delta<String> delta, int lineCount) {
+    if (lineCount == 0) return delta;
+    Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + lineCount, delta.getOriginal().getLines());
+    Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + lineCount, delta.getRevised().getLines());
+    return switch (delta.getType()) {
+      case CHANGE -> new ChangeDelta<>(original, revised);
+      case DELETE -> new DeleteDelta<>(original, revised);
+      case INSERT -> new InsertDelta<>(original, revised);
+    };
+  }
 }
@@ -15,6 +15,7 @@ package org.assertj.core.internal;
 import static java.lang.String.format;
 import static org.assertj.core.util.Strings.isNullOrEmpty;
 
+import java.io.Serial;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
@@ -40,6 +41,8 @@ public class Failures {
 
   private static final Failures INSTANCE = new Failures();
 
+  private static final ThreadLocal<Boolean> PROBING = ThreadLocal.withInitial(() -> false);
+
   private final AssertionErrorCreator assertionErrorCreator = new AssertionErrorCreator();
 
   /**
@@ -81,7 +84,62 @@ public class Failures {
 
   private Failures() {}
 
+  /**
+   * Evaluates the given assertions in probe mode to know whether they pass.
+   * <p>
+   * In probe mode, the failures created by the current thread are {@code AssertionError}s without message nor stack trace,
+   * this avoids building error messages nobody reads when only the outcome of the assertions matters, for
+   * example when filtering elements on assertions.
+   * <p>
+   * Only errors thrown out of the probed assertions are unread: code that creates errors to collect them (like soft
+   * assertions) or catches them to report or inspect them must create them within {@link #suspendProbing()} and
+   * {@link #resumeProbing(boolean)}, otherwise it would get errors without message nor stack trace.
+   *
+   * @param assertions the assertions to evaluate.
+   * @return {@code true} if the assertions pass, {@code false} if they throw an {@code AssertionError}.
+   */
+  public static boolean probe(Runnable assertions) {
+    boolean probing = PROBING.get();
+    PROBING.set(true);
+    try {
+      assertions.run();
+      return true;
+    } catch (AssertionError e) {
+      return false;
+    } finally {
+      PROBING.set(probing);
+    }
+  }
+
+  /**
+   * Suspends the probe mode of the current thread, if any, until {@link #resumeProbing(boolean)} is called.
+   * <p>
+   * Code catching assertion errors to report them or look at them must suspend the probe mode, so that these errors are fully
+   * created even when evaluated as part of a probe.
+   *
+   * @return whether the current thread was probing, to give to {@link #resumeProbing(boolean)}.
+   */
+  public static boolean suspendProbing() {
+    if (!PROBING.get()) return false;
+    PROBING.set(false);
+    return true;
+  }
+
+  /**
+   * Resumes the probe mode of the current thread suspended with {@link #suspendProbing()}.
+   *
+   * @param probing whether the current thread was probing when {@link #suspendProbing()} was called.
+   */
+  public static void resumeProbing(boolean probing) {
+    if (probing) PROBING.set(true);
+  }
+
+  private static boolean isProbing() {
+    return PROBING.get();
+  }
+
   public AssertionError failure(AssertionInfo info, ShouldBeEqual shouldBeEqual) {
+    if (isProbing()) return new ProbeFailure();
     AssertionError error = failureIfErrorMessageIsOverridden(info);
     if (error != null) return error;
     printThreadDumpIfNeeded();
@@ -103,6 +161,7 @@ public class Failures {
    * @return the created <code>{@link AssertionError}</code>.
    */
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory messageFactory) {
+    if (isProbing()) return new ProbeFailure();
     AssertionError error = failureIfErrorMessageIsOverridden(info);
     if (error != null) return error;
     String assertionErrorMessage = assertionErrorMessage(info, messageFactory);
@@ -113,6 +172,7 @@ public class Failures {
   }
 
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory messageFactory, Object actual, Object expected) {
+    if (isProbing()) return new ProbeFailure();
     String assertionErrorMessage = assertionErrorMessage(info, messageFactory);
     AssertionError assertionError = assertionErrorCreator.assertionError(assertionErrorMessage, actual, expected,
                                                                          info.representation());
@@ -130,7 +190,8 @@ public class Failures {
 
   public AssertionError failureIfErrorMessageIsOverridden(AssertionInfo info) {
     String overridingErrorMessage = info.overridingErrorMessage();
-    return isNullOrEmpty(overridingErrorMessage) ? null
+    if (isNullOrEmpty(overridingErrorMessage)) return null;
+    return isProbing() ? new ProbeFailure()
         : failure(MessageFormatter.instance().format(info.description(), info.representation(),
                                                      overridingErrorMessage));
   }
@@ -145,6 +206,7 @@ public class Failures {
    * @return the created <code>{@link AssertionError}</code>.
    */
   public AssertionError failure(String message) {
+    if (isProbing()) return new ProbeFailure();
     AssertionError assertionError = assertionErrorCreator.assertionError(message);
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
@@ -221,4 +283,16 @@ public class Failures {
     }
     return threadDumpDescription.toString();
   }
+
+  private static final class ProbeFailure extends AssertionError {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      // nobody looks at the stack trace of a failing probe, capturing it is the costly part of creating the error
+      return this;
+    }
+  }
 }
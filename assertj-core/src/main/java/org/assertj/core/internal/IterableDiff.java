@@ -16,10 +16,14 @@ import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 
 import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.internal.SortedElementsMatcher.sortedElementsMatcher;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 // immutable
 /**
@@ -34,6 +38,23 @@ class IterableDiff<T> {
 
   IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     this.comparisonStrategy = comparisonStrategy;
+    if (canCompareElementsByHashCode(comparisonStrategy, actual, expected)) {
+      // equal elements should have the same hash code, counting them gives the same result as comparing each actual element to
+      // each expected one but in linear time, the elements left are still compared one by one in case they override equals but
+      // not hashCode
+      List<T> actualElementsInExcess = elementsInExcess(actual, countElements(expected));
+      List<T> expectedElementsInExcess = elementsInExcess(expected, countElements(actual));
+      this.unexpected = unexpectedActualElements(actualElementsInExcess, expectedElementsInExcess);
+      this.missing = missingActualElements(actualElementsInExcess, expectedElementsInExcess);
+      return;
+    }
+    Optional<SortedElementsMatcher<T>> sortedElementsMatcher = sortedElementsMatcher(comparisonStrategy, newArrayList(actual),
+                                                                                    newArrayList(expected));
+    if (sortedElementsMatcher.isPresent()) {
+      this.unexpected = sortedElementsMatcher.get().actualElementsInExcess();
+      this.missing = sortedElementsMatcher.get().expectedElementsInExcess();
+      return;
+    }
     // return the elements in actual that are not in expected: actual - expected
     this.unexpected = unexpectedActualElements(actual, expected);
     // return the elements in expected that are not in actual: expected - actual
@@ -48,6 +69,26 @@ class IterableDiff<T> {
     return diff(actual, expected, StandardComparisonStrategy.instance());
   }
 
+  /**
+   * Returns whether the elements of the given iterables can be looked up by hash code first, that is when the standard
+   * comparison strategy is used and there are no arrays since they are compared by content but hashed by identity.
+   * <p>
+   * The elements not found by hash code must still be compared one by one as equals may not be consistent with hashCode.
+   *
+   * @param comparisonStrategy the strategy used to compare elements
+   * @param iterables the iterables whose elements are compared
+   * @return true if the elements can be looked up by hash code, false otherwise.
+   */
+  static boolean canCompareElementsByHashCode(ComparisonStrategy comparisonStrategy, Iterable<?>... iterables) {
+    if (!comparisonStrategy.isStandard()) return false;
+    for (Iterable<?> iterable : iterables) {
+      for (Object element : iterable) {
+        if (element != null && element.getClass().isArray()) return false;
+      }
+    }
+    return true;
+  }
+
   boolean differencesFound() {
     return !unexpected.isEmpty() || !missing.isEmpty();
   }
@@ -98,6 +139,30 @@ class IterableDiff<T> {
     return unmodifiableList(missingInExpected);
   }
 
+  private static Map<Object, Integer> countElements(Iterable<?> elements) {
+    Map<Object, Integer> counts = new HashMap<>();
+    for (Object element : elements) {
+      counts.merge(element, 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  /**
+   * Returns the elements that are not accounted for by the given counts, each element consuming one occurrence of its count
+   * to deal correctly with duplicates.
+   */
+  private static <T> List<T> elementsInExcess(Iterable<T> elements, Map<Object, Integer> counts) {
+    List<T> elementsInExcess = new ArrayList<>();
+    for (T element : elements) {
+      // the lookup calls element.equals(countedElement) which is how the comparison strategy compares them
+      Integer count = counts.get(element);
+      if (count == null) elementsInExcess.add(element);
+      else if (count == 1) counts.remove(element);
+      else counts.put(element, count - 1);
+    }
+    return unmodifiableList(elementsInExcess);
+  }
+
   private boolean iterableContains(Iterable<?> actual, T expectedElement) {
     return comparisonStrategy.iterableContains(actual, expectedElement);
   }
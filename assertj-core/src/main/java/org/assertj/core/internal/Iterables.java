@@ -76,7 +76,9 @@ import static org.assertj.core.internal.ErrorMessages.emptySequence;
 import static org.assertj.core.internal.ErrorMessages.emptySubsequence;
 import static org.assertj.core.internal.ErrorMessages.nullSequence;
 import static org.assertj.core.internal.ErrorMessages.nullSubsequence;
+import static org.assertj.core.internal.IterableDiff.canCompareElementsByHashCode;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.SortedElementsMatcher.sortedElementsMatcher;
 import static org.assertj.core.util.Arrays.asList;
 import static org.assertj.core.util.Arrays.prepend;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
@@ -85,19 +87,17 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Streams.stream;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -390,24 +390,48 @@ public class Iterables {
    *           {@code Iterable} contains values that are not in the given array.
    */
   public void assertContainsOnly(AssertionInfo info, Iterable<?> actual, Object[] expectedValues) {
-    final List<?> actualAsList = newArrayList(actual);
+    final List<Object> actualAsList = newArrayList(actual);
     // don't use commonCheckThatIterableAssertionSucceeds to get a better error message when actual is not empty and
     // expectedValues is
     checkNotNullIterables(info, actualAsList, expectedValues);
     // if both actual and values are empty, then assertion passes.
     if (actualAsList.isEmpty() && expectedValues.length == 0) return;
 
-    // after the for loop, unexpected = expectedValues - actual
-    List<Object> unexpectedValues = newArrayList(actualAsList);
-    // after the for loop, missing = actual - expectedValues
-    List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actualAsList, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
+    List<Object> unexpectedValues;
+    List<Object> missingValues;
+    List<Object> expectedValuesAsList = list(expectedValues);
+    if (canCompareElementsByHashCode(comparisonStrategy, actualAsList, expectedValuesAsList)) {
+      // same result as below with hash lookups instead of comparing each expected value to each actual element, elements
+      // not found by hash code are still compared one by one in case they override equals but not hashCode
+      Set<Object> actualElements = new HashSet<>(actualAsList);
+      Set<Object> expectedElements = new HashSet<>(expectedValuesAsList);
+      unexpectedValues = actualAsList.stream()
+                                     .filter(element -> !expectedElements.contains(element))
+                                     .filter(element -> !iterableContains(expectedElements, element))
+                                     .collect(toList());
+      missingValues = stream(expectedValues).filter(value -> !actualElements.contains(value))
+                                            .filter(value -> !iterableContains(actualElements, value))
+                                            .collect(toList());
+    } else {
+      Optional<SortedElementsMatcher<Object>> matcher = sortedElementsMatcher(comparisonStrategy, actualAsList,
+                                                                              expectedValuesAsList);
+      if (matcher.isPresent()) {
+        unexpectedValues = matcher.get().actualElementsNotExpected();
+        missingValues = matcher.get().expectedElementsNotFound();
+      } else {
+        // after the for loop, unexpected = expectedValues - actual
+        unexpectedValues = newArrayList(actualAsList);
+        // after the for loop, missing = actual - expectedValues
+        missingValues = newArrayList(expectedValues);
+        for (Object expected : expectedValues) {
+          if (iterableContains(actualAsList, expected)) {
+            // since expected was found in actual:
+            // -- it does not belong to the missing elements
+            iterablesRemove(missingValues, expected);
+            // -- it does not belong to the unexpected elements
+            iterablesRemove(unexpectedValues, expected);
+          }
+        }
       }
     }
 
@@ -623,8 +647,13 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
-                                       .collect(toList());
+    List<Object> actualAsList = newArrayList(actual);
+    List<Object> valuesAsList = newArrayList(values);
+    Optional<SortedElementsMatcher<Object>> sortedElementsMatcher = sortedElementsMatcher(comparisonStrategy, actualAsList,
+                                                                                         valuesAsList);
+    List<Object> extra = sortedElementsMatcher.isPresent()
+        ? sortedElementsMatcher.get().actualElementsNotExpected()
+        : actualAsList.stream().filter(actualElement -> !iterableContains(values, actualElement)).collect(toList());
     if (!extra.isEmpty()) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
@@ -1224,13 +1253,9 @@ public class Iterables {
       requireNonNull(consumer, "Elements in the Consumer<? super E>... expressing the assertions must not be null");
 
     checkSizes(actual, sizeOf(actual), consumers.length, info);
-    Deque<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer = satisfiedElementsPerConsumer(actual, consumers);
-    // fail fast check
-    boolean someRequirementsAreNotMet = satisfiedElementsPerConsumer.stream().anyMatch(e -> e.getElements().isEmpty());
-    if (someRequirementsAreNotMet) throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual));
-
-    if (!areAllConsumersSatisfied(satisfiedElementsPerConsumer))
-      throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual));
+    List<Integer> unmatchedConsumers = new ConsumersToElementsMatching<E>(newArrayList(actual), consumers).unmatchedConsumers();
+    if (!unmatchedConsumers.isEmpty())
+      throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual, unmatchedConsumers));
   }
 
   public <E> void assertSatisfiesOnlyOnce(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements) {
@@ -1243,36 +1268,6 @@ public class Iterables {
     }
   }
 
-  @SafeVarargs
-  private static <E> Deque<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer(Iterable<? extends E> actual,
-                                                                                       Consumer<? super E>... consumers) {
-    return stream(consumers).map(consumer -> new ElementsSatisfyingConsumer<E>(actual, consumer))
-                            .collect(toCollection(ArrayDeque::new));
-  }
-
-  private static <E> boolean areAllConsumersSatisfied(Queue<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer) {
-    // recursively test whether we can find any specific matching permutation that can meet the requirements
-    if (satisfiedElementsPerConsumer.isEmpty()) return true; // all consumers have been satisfied
-
-    // pop the head (i.e., elements satisfying the current consumer), process the tail (i.e., remaining consumers)...
-    ElementsSatisfyingConsumer<E> head = satisfiedElementsPerConsumer.remove();
-    List<E> elementsSatisfyingCurrentConsumer = head.getElements();
-    if (elementsSatisfyingCurrentConsumer.isEmpty()) return false;   // no element satisfies current consumer
-    // if we remove an element satisfying the current consumer from all remaining consumers, will other elements still satisfy
-    // the remaining consumers?
-    return elementsSatisfyingCurrentConsumer.stream()
-                                            .map(element -> removeElement(satisfiedElementsPerConsumer, element))
-                                            .anyMatch(Iterables::areAllConsumersSatisfied);
-  }
-
-  private static <E> Queue<ElementsSatisfyingConsumer<E>> removeElement(Queue<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer,
-                                                                        E element) {
-    // new Queue of ElementsSatisfyingConsumer without the given element, original ElementsSatisfyingConsumer are not modified.
-    return satisfiedElementsPerConsumer.stream()
-                                       .map(elementsSatisfyingConsumer -> elementsSatisfyingConsumer.withoutElement(element))
-                                       .collect(toCollection(ArrayDeque::new));
-  }
-
   public <ACTUAL_ELEMENT, OTHER_ELEMENT> void assertZipSatisfy(AssertionInfo info,
                                                                Iterable<? extends ACTUAL_ELEMENT> actual,
                                                                Iterable<OTHER_ELEMENT> other,
@@ -1338,14 +1333,8 @@ public class Iterables {
   }
 
   private <E> Optional<E> failsRestrictions(E element, Consumer<? super E> restrictions) {
-    try {
-      restrictions.accept(element);
-    } catch (AssertionError e) {
-      // element is supposed not to meet the given restrictions
-      return Optional.empty();
-    }
-    // element meets the given restrictions!
-    return Optional.of(element);
+    // element is supposed not to meet the given restrictions, only the elements meeting them are reported
+    return byPassingAssertions(restrictions).test(element) ? Optional.of(element) : Optional.empty();
   }
 
   public <E> void assertAnyMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
@@ -1396,10 +1385,22 @@ public class Iterables {
     List<Object> notExpected = newArrayList(actual);
     List<Object> notFound = newArrayList(values);
 
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
+    if (canCompareElementsByHashCode(comparisonStrategy, notExpected, notFound)) {
+      IterableDiff<Object> diff = diff(notExpected, notFound, comparisonStrategy);
+      notExpected = diff.unexpected;
+      notFound = diff.missing;
+    } else {
+      Optional<SortedElementsMatcher<Object>> matcher = sortedElementsMatcher(comparisonStrategy, notExpected, notFound);
+      if (matcher.isPresent()) {
+        notExpected = matcher.get().actualElementsInExcess();
+        notFound = matcher.get().expectedElementsInExcess();
+      } else {
+        for (Object value : values) {
+          if (iterableContains(notExpected, value)) {
+            iterablesRemoveFirst(notExpected, value);
+            iterablesRemoveFirst(notFound, value);
+          }
+        }
       }
     }
 
@@ -1426,14 +1427,8 @@ public class Iterables {
   }
 
   public static <T> Predicate<T> byPassingAssertions(Consumer<? super T> assertions) {
-    return objectToTest -> {
-      try {
-        assertions.accept(objectToTest);
-        return true;
-      } catch (AssertionError e) {
-        return false;
-      }
-    };
+    // the assertions failures are not reported, probing avoids building their error messages
+    return objectToTest -> Failures.probe(() -> assertions.accept(objectToTest));
   }
 
   private static void checkIsNotEmptySequence(Object[] sequence) {
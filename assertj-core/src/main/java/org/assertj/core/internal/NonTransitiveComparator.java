@@ -0,0 +1,26 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.Comparator;
+
+/**
+ * A {@link Comparator} that does not define a total order, either because it considers elements equal within a tolerance
+ * (1.0 ~ 1.1 and 1.1 ~ 1.2 but not 1.0 ~ 1.2) or because it only tells whether elements are equal.
+ * <p>
+ * Elements compared with such a comparator are never matched by sorting them, they are compared one by one.
+ *
+ * @param <T> the type of objects that may be compared by this comparator
+ */
+public interface NonTransitiveComparator<T> extends Comparator<T> {
+}
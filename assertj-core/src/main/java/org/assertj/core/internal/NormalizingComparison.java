@@ -0,0 +1,158 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Character.isWhitespace;
+import static org.assertj.core.internal.Strings.NON_BREAKING_SPACES;
+
+/**
+ * Compares {@link CharSequence}s as if they were normalized, without building their normalized copies.
+ * <p>
+ * Both char sequences are walked simultaneously, skipping or folding the characters as the normalization would, until the
+ * first difference.
+ */
+final class NormalizingComparison {
+
+  private static final int END = -1;
+
+  private NormalizingComparison() {}
+
+  /**
+   * Same as comparing the char sequences after removing all their whitespaces.
+   */
+  static boolean areEqualIgnoringWhitespace(CharSequence actual, CharSequence expected) {
+    return areEqual(actual, expected, Normalization.IGNORING_WHITESPACE);
+  }
+
+  /**
+   * Same as comparing the char sequences after replacing each run of whitespaces (non-breaking spaces included) by a single
+   * space and trimming them.
+   */
+  static boolean areEqualNormalizingWhitespace(CharSequence actual, CharSequence expected) {
+    return areEqual(actual, expected, Normalization.NORMALIZING_WHITESPACE);
+  }
+
+  /**
+   * Same as {@link #areEqualNormalizingWhitespace(CharSequence, CharSequence)} after removing the {@code \p{Punct}}
+   * characters.
+   */
+  static boolean areEqualNormalizingPunctuationAndWhitespace(CharSequence actual, CharSequence expected) {
+    return areEqual(actual, expected, Normalization.NORMALIZING_PUNCTUATION_AND_WHITESPACE);
+  }
+
+  /**
+   * Same as comparing the char sequences after removing their {@code \r\n} and {@code \n} new lines.
+   */
+  static boolean areEqualIgnoringNewLines(CharSequence actual, CharSequence expected) {
+    return areEqual(actual, expected, Normalization.IGNORING_NEW_LINES);
+  }
+
+  /**
+   * Same as comparing the char sequences after replacing their {@code \r\n} new lines by {@code \n}.
+   */
+  static boolean areEqualNormalizingNewLines(CharSequence actual, CharSequence expected) {
+    return areEqual(actual, expected, Normalization.NORMALIZING_NEW_LINES);
+  }
+
+  private static boolean areEqual(CharSequence actual, CharSequence expected, Normalization normalization) {
+    if (actual == null || expected == null) return actual == expected;
+    Cursor actualCursor = new Cursor(actual, normalization);
+    Cursor expectedCursor = new Cursor(expected, normalization);
+    while (true) {
+      int actualChar = actualCursor.next();
+      if (actualChar != expectedCursor.next()) return false;
+      if (actualChar == END) return true;
+    }
+  }
+
+  private enum Normalization {
+    IGNORING_WHITESPACE, NORMALIZING_WHITESPACE, NORMALIZING_PUNCTUATION_AND_WHITESPACE, IGNORING_NEW_LINES, NORMALIZING_NEW_LINES;
+
+    boolean normalizesWhitespace() {
+      return this == NORMALIZING_WHITESPACE || this == NORMALIZING_PUNCTUATION_AND_WHITESPACE;
+    }
+  }
+
+  /**
+   * Walks the normalized characters of a char sequence.
+   */
+  private static final class Cursor {
+
+    private final CharSequence text;
+    private final Normalization normalization;
+    private final int end;
+    private int index;
+
+    Cursor(CharSequence text, Normalization normalization) {
+      this.text = text;
+      this.normalization = normalization;
+      int start = 0;
+      int end = text.length();
+      if (normalization.normalizesWhitespace()) {
+        // the normalized text is trimmed, which removes any leading or trailing whitespaces, punctuation and control chars
+        while (start < end && isTrimmed(text.charAt(start))) start++;
+        while (end > start && isTrimmed(text.charAt(end - 1))) end--;
+      }
+      this.index = start;
+      this.end = end;
+    }
+
+    /**
+     * Returns the next normalized character or {@link #END} when there are none left.
+     */
+    int next() {
+      while (index < end) {
+        char c = text.charAt(index++);
+        switch (normalization) {
+        case IGNORING_WHITESPACE:
+          if (isWhitespace(c)) continue;
+          return c;
+        case NORMALIZING_WHITESPACE, NORMALIZING_PUNCTUATION_AND_WHITESPACE:
+          if (isRemovedPunctuation(c)) continue;
+          if (!isSpace(c)) return c;
+          // a run of spaces is replaced by a single space, even if it contains removed punctuation
+          while (index < end && (isSpace(text.charAt(index)) || isRemovedPunctuation(text.charAt(index)))) index++;
+          return ' ';
+        case IGNORING_NEW_LINES:
+          if (c == '\n' || isNewLineCarriageReturn(c)) continue;
+          return c;
+        case NORMALIZING_NEW_LINES:
+          if (isNewLineCarriageReturn(c)) continue;
+          return c;
+        }
+      }
+      return END;
+    }
+
+    private boolean isNewLineCarriageReturn(char c) {
+      return c == '\r' && index < end && text.charAt(index) == '\n';
+    }
+
+    private boolean isTrimmed(char c) {
+      return c <= ' ' || isSpace(c) || isRemovedPunctuation(c);
+    }
+
+    private boolean isRemovedPunctuation(char c) {
+      return normalization == Normalization.NORMALIZING_PUNCTUATION_AND_WHITESPACE && isPunctuation(c);
+    }
+
+    private static boolean isSpace(char c) {
+      return isWhitespace(c) || NON_BREAKING_SPACES.contains(c);
+    }
+
+    // same characters as the US-ASCII \p{Punct} regex class
+    private static boolean isPunctuation(char c) {
+      return (c >= '!' && c <= '/') || (c >= ':' && c <= '@') || (c >= '[' && c <= '`') || (c >= '{' && c <= '~');
+    }
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.reflect.Array.get;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
+
+/**
+ * Looks up the elements of primitive arrays compared with the standard comparison strategy without boxing them.
+ * <p>
+ * Elements are converted to {@code long} keys that are equal if and only if the boxed elements are, floating point elements
+ * use their bits like {@link Double#equals(Object)} does (so {@code NaN} is equal to {@code NaN} but {@code 0.0} is not
+ * equal to {@code -0.0}). Keys are sorted and merged to find the elements to report, only these elements are boxed.
+ */
+final class PrimitiveArrayElements {
+
+  private PrimitiveArrayElements() {}
+
+  /**
+   * Returns whether the elements of the given arrays can be looked up by this class, that is when they are primitive arrays of
+   * the same type compared with the standard comparison strategy.
+   *
+   * @param comparisonStrategy the strategy used to compare elements
+   * @param array an array
+   * @param otherArray another array
+   * @return true if the given arrays elements can be looked up without boxing them, false otherwise.
+   */
+  static boolean canLookUpElementsOf(ComparisonStrategy comparisonStrategy, Object array, Object otherArray) {
+    return comparisonStrategy.isStandard()
+           && array.getClass() == otherArray.getClass()
+           && array.getClass().getComponentType().isPrimitive();
+  }
+
+  /**
+   * Returns the elements of the given array that are not equal to any element of the other array, in iteration order.
+   *
+   * @param array the array whose elements are looked up
+   * @param otherArray the array to look the elements in
+   * @return the boxed elements not found in the other array.
+   */
+  static List<Object> elementsNotIn(Object array, Object otherArray) {
+    return elementsFoundOrNot(array, otherArray, false);
+  }
+
+  /**
+   * Returns the elements of the given array that are equal to an element of the other array, in iteration order.
+   *
+   * @param array the array whose elements are looked up
+   * @param otherArray the array to look the elements in
+   * @return the boxed elements found in the other array.
+   */
+  static List<Object> elementsIn(Object array, Object otherArray) {
+    return elementsFoundOrNot(array, otherArray, true);
+  }
+
+  private static List<Object> elementsFoundOrNot(Object array, Object otherArray, boolean found) {
+    long[] keys = keysOf(array);
+    long[] sortedKeys = sorted(keys.clone());
+    long[] sortedOtherKeys = sorted(keysOf(otherArray));
+    // merge the sorted keys to select the distinct keys to report, usually none when the assertion succeeds
+    long[] selectedKeys = new long[sortedKeys.length];
+    int selectedKeysCount = 0;
+    int j = 0;
+    for (int i = 0; i < sortedKeys.length; i++) {
+      long key = sortedKeys[i];
+      if (i > 0 && sortedKeys[i - 1] == key) continue;
+      while (j < sortedOtherKeys.length && sortedOtherKeys[j] < key) j++;
+      boolean keyFound = j < sortedOtherKeys.length && sortedOtherKeys[j] == key;
+      if (keyFound == found) selectedKeys[selectedKeysCount++] = key;
+    }
+    if (selectedKeysCount == 0) return emptyList();
+    List<Object> elements = new ArrayList<>();
+    for (int i = 0; i < keys.length; i++) {
+      if (Arrays.binarySearch(selectedKeys, 0, selectedKeysCount, keys[i]) >= 0) elements.add(get(array, i));
+    }
+    return unmodifiableList(elements);
+  }
+
+  /**
+   * Returns the elements of the given array that are not matched with an element of the other array, each element of the other
+   * array being matched once (in iteration order) to deal correctly with duplicates.
+   *
+   * @param array the array whose elements are looked up
+   * @param otherArray the array to look the elements in
+   * @return the boxed elements in excess.
+   */
+  static List<Object> elementsInExcess(Object array, Object otherArray) {
+    long[] keys = keysOf(array);
+    long[] sortedKeys = sorted(keys.clone());
+    long[] sortedOtherKeys = sorted(keysOf(otherArray));
+    // merge the sorted keys to find the distinct keys having more occurrences in array than in otherArray,
+    // along with the number of their occurrences matched by otherArray elements
+    long[] keysInExcess = new long[sortedKeys.length];
+    int[] matchedCounts = new int[sortedKeys.length];
+    int keysInExcessCount = 0;
+    int j = 0;
+    for (int i = 0; i < sortedKeys.length;) {
+      long key = sortedKeys[i];
+      int count = 0;
+      while (i < sortedKeys.length && sortedKeys[i] == key) {
+        i++;
+        count++;
+      }
+      while (j < sortedOtherKeys.length && sortedOtherKeys[j] < key) j++;
+      int otherCount = 0;
+      while (j < sortedOtherKeys.length && sortedOtherKeys[j] == key) {
+        j++;
+        otherCount++;
+      }
+      if (count > otherCount) {
+        keysInExcess[keysInExcessCount] = key;
+        matchedCounts[keysInExcessCount++] = otherCount;
+      }
+    }
+    if (keysInExcessCount == 0) return emptyList();
+    List<Object> elementsInExcess = new ArrayList<>();
+    for (int i = 0; i < keys.length; i++) {
+      int index = Arrays.binarySearch(keysInExcess, 0, keysInExcessCount, keys[i]);
+      if (index < 0) continue;
+      if (matchedCounts[index] > 0) matchedCounts[index]--;
+      else elementsInExcess.add(get(array, i));
+    }
+    return unmodifiableList(elementsInExcess);
+  }
+
+  /**
+   * Returns whether the given arrays have equal elements in the same order.
+   *
+   * @param array an array
+   * @param otherArray another array
+   * @return true if the given arrays have equal elements in the same order, false otherwise.
+   */
+  static boolean haveEqualElementsInOrder(Object array, Object otherArray) {
+    return Arrays.equals(keysOf(array), keysOf(otherArray));
+  }
+
+  private static long[] sorted(long[] keys) {
+    Arrays.sort(keys);
+    return keys;
+  }
+
+  private static long[] keysOf(Object array) {
+    if (array instanceof int[] ints) {
+      long[] keys = new long[ints.length];
+      for (int i = 0; i < ints.length; i++) keys[i] = ints[i];
+      return keys;
+    }
+    if (array instanceof long[] longs) return longs.clone();
+    if (array instanceof double[] doubles) {
+      long[] keys = new long[doubles.length];
+      for (int i = 0; i < doubles.length; i++) keys[i] = Double.doubleToLongBits(doubles[i]);
+      return keys;
+    }
+    if (array instanceof float[] floats) {
+      long[] keys = new long[floats.length];
+      for (int i = 0; i < floats.length; i++) keys[i] = Float.floatToIntBits(floats[i]);
+      return keys;
+    }
+    if (array instanceof byte[] bytes) {
+      long[] keys = new long[bytes.length];
+      for (int i = 0; i < bytes.length; i++) keys[i] = bytes[i];
+      return keys;
+    }
+    if (array instanceof short[] shorts) {
+      long[] keys = new long[shorts.length];
+      for (int i = 0; i < shorts.length; i++) keys[i] = shorts[i];
+      return keys;
+    }
+    if (array instanceof char[] chars) {
+      long[] keys = new long[chars.length];
+      for (int i = 0; i < chars.length; i++) keys[i] = chars[i];
+      return keys;
+    }
+    if (array instanceof boolean[] booleans) {
+      long[] keys = new long[booleans.length];
+      for (int i = 0; i < booleans.length; i++) keys[i] = booleans[i] ? 1 : 0;
+      return keys;
+    }
+    throw new IllegalArgumentException("Expecting a primitive array but was: " + array.getClass().getName());
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
+
+/**
+ * Matches actual elements with expected ones when they are compared with a {@link Comparator}: both are sorted once and then
+ * walked together which is O(n.log(n)) instead of comparing each actual element to each expected one.
+ * <p>
+ * This relies on the comparator defining a total order as its contract requires. AssertJ comparators that don't (the ones
+ * comparing with a precision or only telling whether elements are equal) are {@link NonTransitiveComparator}s for which no
+ * matcher is created. The sorted elements are still checked to be consistently ordered, if they are not (or if the comparator
+ * fails) no matcher is created and elements must be compared one by one.
+ * <p>
+ * Equal elements are matched in their iteration order, the first actual element is matched with the first equal expected
+ * element, so that elements in excess are the same as the ones found by comparing elements one by one.
+ *
+ * @param <T> the type of elements to match.
+ */
+final class SortedElementsMatcher<T> {
+
+  private final List<T> actual;
+  private final List<T> expected;
+  // for each element, the number of equal elements in the other list
+  private final int[] actualEqualElementsInExpected;
+  private final int[] expectedEqualElementsInActual;
+  // for each element, the number of equal elements preceding it in its own list
+  private final int[] actualRank;
+  private final int[] expectedRank;
+
+  private SortedElementsMatcher(List<T> actual, List<T> expected) {
+    this.actual = actual;
+    this.expected = expected;
+    this.actualEqualElementsInExpected = new int[actual.size()];
+    this.expectedEqualElementsInActual = new int[expected.size()];
+    this.actualRank = new int[actual.size()];
+    this.expectedRank = new int[expected.size()];
+  }
+
+  /**
+   * Returns a matcher if the given elements are compared with a comparator and can be matched by sorting them, that is when
+   * the comparator is not a {@link NonTransitiveComparator}, there are no null elements (only matched by identity and never passed to the
+   * comparator) and the comparator orders them consistently.
+   *
+   * @param <T> the type of elements to match.
+   * @param comparisonStrategy the strategy used to compare elements
+   * @param actual the actual elements
+   * @param expected the expected elements
+   * @return a matcher or empty if elements must be compared one by one.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> Optional<SortedElementsMatcher<T>> sortedElementsMatcher(ComparisonStrategy comparisonStrategy,
+                                                                     List<T> actual, List<T> expected) {
+    if (!(comparisonStrategy instanceof ComparatorBasedComparisonStrategy comparatorBasedComparisonStrategy))
+      return Optional.empty();
+    Comparator<Object> comparator = (Comparator<Object>) comparatorBasedComparisonStrategy.getComparator();
+    // sorting elements with a non-transitive comparator would match elements that are not equal
+    if (comparator instanceof NonTransitiveComparator) return Optional.empty();
+    if (actual.contains(null) || expected.contains(null)) return Optional.empty();
+    SortedElementsMatcher<T> matcher = new SortedElementsMatcher<>(actual, expected);
+    try {
+      return matcher.match(comparator) ? Optional.of(matcher) : Optional.empty();
+    } catch (RuntimeException e) {
+      // the comparator can't sort these elements (for example "Comparison method violates its general contract!")
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Returns the actual elements that are not matched with an expected element, each expected element being matched once.
+   *
+   * @return the actual elements in excess.
+   */
+  List<T> actualElementsInExcess() {
+    return elementsInExcess(actual, actualRank, actualEqualElementsInExpected);
+  }
+
+  /**
+   * Returns the expected elements that are not matched with an actual element, each actual element being matched once.
+   *
+   * @return the expected elements in excess.
+   */
+  List<T> expectedElementsInExcess() {
+    return elementsInExcess(expected, expectedRank, expectedEqualElementsInActual);
+  }
+
+  /**
+   * Returns the actual elements not equal to any expected elements.
+   *
+   * @return the actual elements not equal to any expected elements.
+   */
+  List<T> actualElementsNotExpected() {
+    return elementsWithoutEqualElements(actual, actualEqualElementsInExpected);
+  }
+
+  /**
+   * Returns the expected elements not equal to any actual elements.
+   *
+   * @return the expected elements not equal to any actual elements.
+   */
+  List<T> expectedElementsNotFound() {
+    return elementsWithoutEqualElements(expected, expectedEqualElementsInActual);
+  }
+
+  private static <T> List<T> elementsInExcess(List<T> elements, int[] rank, int[] equalElementsInOther) {
+    List<T> elementsInExcess = new ArrayList<>();
+    for (int i = 0; i < elements.size(); i++) {
+      if (rank[i] >= equalElementsInOther[i]) elementsInExcess.add(elements.get(i));
+    }
+    return unmodifiableList(elementsInExcess);
+  }
+
+  private static <T> List<T> elementsWithoutEqualElements(List<T> elements, int[] equalElementsInOther) {
+    List<T> elementsWithoutEqualElements = new ArrayList<>();
+    for (int i = 0; i < elements.size(); i++) {
+      if (equalElementsInOther[i] == 0) elementsWithoutEqualElements.add(elements.get(i));
+    }
+    return unmodifiableList(elementsWithoutEqualElements);
+  }
+
+  private boolean match(Comparator<Object> comparator) {
+    Integer[] sortedActual = sortedIndexes(actual, comparator);
+    Integer[] sortedExpected = sortedIndexes(expected, comparator);
+    if (!isConsistentlySorted(actual, sortedActual, comparator)) return false;
+    if (!isConsistentlySorted(expected, sortedExpected, comparator)) return false;
+    int i = 0;
+    int j = 0;
+    while (i < sortedActual.length || j < sortedExpected.length) {
+      // compare actual to expected (and not the opposite) like comparing elements one by one does
+      int comparison = i == sortedActual.length ? 1
+          : j == sortedExpected.length ? -1
+          : comparator.compare(actual.get(sortedActual[i]), expected.get(sortedExpected[j]));
+      T head = comparison <= 0 ? actual.get(sortedActual[i]) : expected.get(sortedExpected[j]);
+      int actualRunEnd = comparison <= 0 ? runEnd(actual, sortedActual, i, head, comparator) : i;
+      int expectedRunEnd = comparison >= 0 ? runEnd(expected, sortedExpected, j, head, comparator) : j;
+      // an element not equal to itself can't be matched by sorting
+      if (actualRunEnd == i && expectedRunEnd == j) return false;
+      // sorted indexes of equal elements are in iteration order as the sort is stable
+      for (int k = i; k < actualRunEnd; k++) {
+        actualRank[sortedActual[k]] = k - i;
+        actualEqualElementsInExpected[sortedActual[k]] = expectedRunEnd - j;
+      }
+      for (int k = j; k < expectedRunEnd; k++) {
+        expectedRank[sortedExpected[k]] = k - j;
+        expectedEqualElementsInActual[sortedExpected[k]] = actualRunEnd - i;
+      }
+      i = actualRunEnd;
+      j = expectedRunEnd;
+    }
+    return true;
+  }
+
+  private static <T> Integer[] sortedIndexes(List<T> elements, Comparator<Object> comparator) {
+    Integer[] indexes = new Integer[elements.size()];
+    Arrays.setAll(indexes, i -> i);
+    // Arrays.sort is stable for objects
+    Arrays.sort(indexes, (i1, i2) -> comparator.compare(elements.get(i1), elements.get(i2)));
+    return indexes;
+  }
+
+  private static <T> boolean isConsistentlySorted(List<T> elements, Integer[] sortedIndexes, Comparator<Object> comparator) {
+    for (int k = 0; k < sortedIndexes.length - 1; k++) {
+      T element = elements.get(sortedIndexes[k]);
+      T next = elements.get(sortedIndexes[k + 1]);
+      if (comparator.compare(element, next) > 0 || comparator.compare(next, element) < 0) return false;
+    }
+    return true;
+  }
+
+  private static <T> int runEnd(List<T> elements, Integer[] sortedIndexes, int start, T head, Comparator<Object> comparator) {
+    int end = start;
+    while (end < sortedIndexes.length && comparator.compare(head, elements.get(sortedIndexes[end])) == 0) end++;
+    return end;
+  }
+}
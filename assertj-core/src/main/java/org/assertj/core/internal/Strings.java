@@ -68,6 +68,11 @@ import static org.assertj.core.error.ShouldNotStartWithIgnoringCase.shouldNotSta
 import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
 import static org.assertj.core.error.ShouldStartWithIgnoringCase.shouldStartWithIgnoringCase;
 import static org.assertj.core.internal.Arrays.assertIsArray;
+import static org.assertj.core.internal.CharSequenceSearch.searching;
+import static org.assertj.core.internal.NormalizingComparison.areEqualIgnoringNewLines;
+import static org.assertj.core.internal.NormalizingComparison.areEqualNormalizingNewLines;
+import static org.assertj.core.internal.NormalizingComparison.areEqualNormalizingPunctuationAndWhitespace;
+import static org.assertj.core.internal.NormalizingComparison.areEqualNormalizingWhitespace;
 import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsEmpty;
 import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsNull;
 import static org.assertj.core.internal.CommonValidations.checkLineCounts;
@@ -106,7 +111,7 @@ import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
  */
 public class Strings {
 
-  private static final Set<Character> NON_BREAKING_SPACES = Set.of('\u00A0', '\u2007', '\u202F');
+  static final Set<Character> NON_BREAKING_SPACES = Set.of('\u00A0', '\u2007', '\u202F');
   private static final String EMPTY_STRING = "";
   private static final Strings INSTANCE = new Strings(StandardComparisonStrategy.instance());
   private static final String PUNCTUATION_REGEX = "\\p{Punct}";
@@ -244,6 +249,7 @@ public class Strings {
   }
 
   private boolean stringContains(CharSequence actual, CharSequence sequence) {
+    if (comparisonStrategy.isStandard()) return searching(sequence).indexIn(actual, 0) != -1;
     return comparisonStrategy.stringContains(actual.toString(), sequence.toString());
   }
 
@@ -311,11 +317,9 @@ public class Strings {
   }
 
   public void assertIsEqualToNormalizingNewlines(AssertionInfo info, CharSequence actual, CharSequence expected) {
-    String normalizedActual = normalizeNewlines(actual);
-    String normalizedExpected = normalizeNewlines(expected);
-    if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
-      throw failures.failure(info, shouldBeEqualIgnoringNewLineDifferences(actual, expected), normalizedActual,
-                             normalizedExpected);
+    if (!areEqualNormalizingNewLines(actual, expected))
+      throw failures.failure(info, shouldBeEqualIgnoringNewLineDifferences(actual, expected), normalizeNewlines(actual),
+                             normalizeNewlines(expected));
   }
 
   private static String normalizeNewlines(CharSequence charSequence) {
@@ -335,7 +339,7 @@ public class Strings {
   private boolean areEqualIgnoringWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return removeAllWhitespaces(actual).equals(removeAllWhitespaces(expected));
+    return NormalizingComparison.areEqualIgnoringWhitespace(actual, expected);
   }
 
   public static String removeAllWhitespaces(CharSequence toBeStripped) {
@@ -352,17 +356,15 @@ public class Strings {
 
   public void assertEqualsNormalizingWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespace(actual);
-    String normalizedExpected = normalizeWhitespace(expected);
-    if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
-      throw failures.failure(info, shouldBeEqualNormalizingWhitespace(actual, expected), normalizedActual, normalizedExpected);
+    // normalized copies are only built to render the failure
+    if (!areEqualNormalizingWhitespace(actual, expected))
+      throw failures.failure(info, shouldBeEqualNormalizingWhitespace(actual, expected), normalizeWhitespace(actual),
+                             normalizeWhitespace(expected));
   }
 
   public void assertNotEqualsNormalizingWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespace(actual);
-    String normalizedExpected = normalizeWhitespace(expected);
-    if (java.util.Objects.equals(normalizedActual, normalizedExpected))
+    if (areEqualNormalizingWhitespace(actual, expected))
       throw failures.failure(info, shouldNotBeEqualNormalizingWhitespace(actual, expected));
   }
 
@@ -385,11 +387,9 @@ public class Strings {
 
   public void assertEqualsNormalizingPunctuationAndWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespaceAndPunctuation(actual);
-    String normalizedExpected = normalizeWhitespaceAndPunctuation(expected);
-    if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
-      throw failures.failure(info, shouldBeEqualNormalizingPunctuationAndWhitespace(actual, expected), normalizedActual,
-                             normalizedExpected);
+    if (!areEqualNormalizingPunctuationAndWhitespace(actual, expected))
+      throw failures.failure(info, shouldBeEqualNormalizingPunctuationAndWhitespace(actual, expected),
+                             normalizeWhitespaceAndPunctuation(actual), normalizeWhitespaceAndPunctuation(expected));
   }
 
   private static String normalizeWhitespaceAndPunctuation(CharSequence input) {
@@ -415,13 +415,10 @@ public class Strings {
   }
 
   private int countOccurrences(CharSequence sequenceToSearch, CharSequence actual) {
-    String strToSearch = sequenceToSearch.toString();
-    String strActual = actual.toString();
+    if (comparisonStrategy.isStandard()) return searching(sequenceToSearch).occurrencesIn(actual);
     int occurrences = 0;
-    for (int i = 0; i <= (strActual.length() - strToSearch.length()); i++) {
-      if (comparisonStrategy.areEqual(strActual.substring(i, i + sequenceToSearch.length()), strToSearch)) {
-        occurrences++;
-      }
+    for (int index = indexOf(actual, sequenceToSearch, 0); index != -1; index = indexOf(actual, sequenceToSearch, index + 1)) {
+      occurrences++;
     }
     return occurrences;
   }
@@ -592,10 +589,12 @@ public class Strings {
     // - remove up to "George" in "{ George Martin }" -> " Martin }", does it contain " " ?
     // - remove up to " " in " Martin }" -> "Martin }", does it contain "Martin" ?
     // ...
-    String actualRest = removeUpTo(actual.toString(), subsequence[0]);
+    // the rest of actual is not copied, it is searched from the index following the previous subsequence element
+    int actualRestIndex = indexOf(actual, subsequence[0], 0) + subsequence[0].length();
     // check the subsequence second element since we already know the first is present
     for (int i = 1; i < subsequence.length; i++) {
-      if (stringContains(actualRest, subsequence[i])) actualRest = removeUpTo(actualRest, subsequence[i]);
+      int index = indexOf(actual, subsequence[i], actualRestIndex);
+      if (index != -1) actualRestIndex = index + subsequence[i].length();
       else throw failures.failure(info, shouldContainSubsequence(actual, subsequence, i - 1, comparisonStrategy));
     }
   }
@@ -678,22 +677,14 @@ public class Strings {
                                       LinkedHashMap::new));
   }
 
-  private String removeUpTo(String string, CharSequence toRemove) {
-    // we have already checked that toRemove was not null in doCommonCheckForCharSequence and this point string is not neither
-    int index = indexOf(string, toRemove);
-    // remove the start of string up to toRemove included
-    return string.substring(index + toRemove.length());
-  }
-
-  private int indexOf(String string, CharSequence toFind) {
-    if (EMPTY_STRING.equals(string) && EMPTY_STRING.equals(toFind.toString())) return 0;
-    for (int i = 0; i < string.length(); i++) {
-      if (comparisonStrategy.stringStartsWith(string.substring(i), toFind.toString())) return i;
+  private int indexOf(CharSequence actual, CharSequence sequence, int fromIndex) {
+    if (comparisonStrategy.isStandard()) return searching(sequence).indexIn(actual, fromIndex);
+    // comparators compare strings, each region of actual to compare to the sequence has to be copied
+    String strSequence = sequence.toString();
+    for (int i = fromIndex; i <= actual.length() - sequence.length(); i++) {
+      if (comparisonStrategy.areEqual(actual.subSequence(i, i + sequence.length()).toString(), strSequence)) return i;
     }
-    // should not arrive here since we this method is used from assertContainsSubsequence at a step where we know that toFind
-    // was found and we are checking whether it was at the right place/order.
-    throw new IllegalStateException("%s should have been found in %s, please raise an assertj-core issue".formatted(toFind,
-                                                                                                                    string));
+    return -1;
   }
 
   public void assertXmlEqualsTo(AssertionInfo info, CharSequence actualXml, CharSequence expectedXml) {
@@ -758,9 +749,9 @@ public class Strings {
   }
 
   public void assertIsEqualToIgnoringNewLines(AssertionInfo info, CharSequence actual, CharSequence expected) {
-    String actualWithoutNewLines = removeNewLines(actual);
-    String expectedWithoutNewLines = removeNewLines(expected);
-    if (!actualWithoutNewLines.equals(expectedWithoutNewLines))
+    requireNonNull(actual);
+    requireNonNull(expected);
+    if (!areEqualIgnoringNewLines(actual, expected))
       throw failures.failure(info, shouldBeEqualIgnoringNewLines(actual, expected), actual, expected);
   }
 
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.matcher;
 
+import org.assertj.core.internal.Failures;
 import org.assertj.core.util.Throwables;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
@@ -50,12 +51,16 @@ public abstract class AssertionMatcher<T> extends BaseMatcher<T> {
   @Override
   public boolean matches(Object argument) {
     T actual = (T) argument;
+    // the first error describes the mismatch, it must be fully created
+    boolean probing = Failures.suspendProbing();
     try {
       assertion(actual);
       return true;
     } catch (AssertionError e) {
       firstError = e;
       return false;
+    } finally {
+      Failures.resumeProbing(probing);
     }
   }
 
@@ -38,18 +38,20 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.RandomAccess;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -61,6 +63,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.assertj.core.configuration.Configuration;
@@ -106,7 +109,14 @@ public class StandardRepresentation implements Representation {
   private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
   private static int maxStackTraceElementsDisplayed = Configuration.MAX_STACKTRACE_ELEMENTS_DISPLAYED;
 
-  private static final Map<Class<?>, Function<?, ? extends CharSequence>> customFormatterByType = new HashMap<>();
+  private static final Map<Class<?>, Function<?, ? extends CharSequence>> customFormatterByType = new ConcurrentHashMap<>();
+  // apart from custom formatters, the way to format an object only depends on its class, it is resolved once per class
+  private static final ClassValue<BiFunction<StandardRepresentation, Object, String>> FORMATTING_BY_TYPE = new ClassValue<>() {
+    @Override
+    protected BiFunction<StandardRepresentation, Object, String> computeValue(Class<?> type) {
+      return resolveFormatting(type);
+    }
+  };
   private static final Class<?>[] TYPE_WITH_UNAMBIGUOUS_REPRESENTATION = { Date.class, LocalDateTime.class, ZonedDateTime.class,
       OffsetDateTime.class, Calendar.class };
 
@@ -207,66 +217,91 @@ public class StandardRepresentation implements Representation {
   @Override
   public String toStringOf(Object object) {
     if (object == null) return null;
+    // not cached: subclasses can override hasCustomFormatterFor and formatters can be registered at any time
     if (hasCustomFormatterFor(object)) return customFormat(object);
-    if (object instanceof ComparatorBasedComparisonStrategy strategy) return toStringOf(strategy);
-    if (object instanceof Calendar calendar) return toStringOf(calendar);
-    if (object instanceof Class<?> clazz) return toStringOf(clazz);
-    if (object instanceof Date date) return toStringOf(date);
-    if (object instanceof Duration duration) return toStringOf(duration);
-    if (object instanceof LocalDate date) return toStringOf(date);
-    if (object instanceof YearMonth month) return toStringOf(month);
-    if (object instanceof LocalDateTime time) return toStringOf(time);
-    if (object instanceof OffsetDateTime time) return toStringOf(time);
-    if (object instanceof ZonedDateTime time) return toStringOf(time);
-    if (object instanceof LongAdder adder) return toStringOf(adder);
+    return FORMATTING_BY_TYPE.get(object.getClass()).apply(this, object);
+  }
+
+  private static BiFunction<StandardRepresentation, Object, String> resolveFormatting(Class<?> type) {
+    if (ComparatorBasedComparisonStrategy.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((ComparatorBasedComparisonStrategy) object);
+    if (Calendar.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Calendar) object);
+    if (Class.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Class<?>) object);
+    if (Date.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Date) object);
+    if (Duration.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Duration) object);
+    if (LocalDate.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((LocalDate) object);
+    if (YearMonth.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((YearMonth) object);
+    if (LocalDateTime.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((LocalDateTime) object);
+    if (OffsetDateTime.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((OffsetDateTime) object);
+    if (ZonedDateTime.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((ZonedDateTime) object);
+    if (LongAdder.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((LongAdder) object);
     // if object was a subtype of any atomic type overriding toString, use it as it's more relevant than our generic
     // representation, if that's not the case (e.g., an AtomicReference subclass not overriding String) we use our representation.
-    if (isInstanceOfNotOverridingToString(object, AtomicReference.class)) return toStringOf((AtomicReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicMarkableReference.class))
-      return toStringOf((AtomicMarkableReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicStampedReference.class))
-      return toStringOf((AtomicStampedReference<?>) object);
-    if (object instanceof AtomicIntegerFieldUpdater) return AtomicIntegerFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicLongFieldUpdater) return AtomicLongFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicReferenceFieldUpdater) return AtomicReferenceFieldUpdater.class.getSimpleName();
-    if (object instanceof File file) return toStringOf(file);
-    if (object instanceof Path) return fallbackToStringOf(object);
-    if (isUnquotedString(object)) return toUnquotedStringOf(object);
-    if (object instanceof String string) return toStringOf(string);
-    if (object instanceof CharSequence sequence) return toStringOf(sequence);
-    if (object instanceof Character character) return toStringOf(character);
-    if (object instanceof Comparator<?> comparator) return toStringOf(comparator);
-    if (object instanceof SimpleDateFormat format) return toStringOf(format);
-    if (object instanceof PredicateDescription description) return toStringOf(description);
-    if (object instanceof Future<?> future) return toStringOf(future);
-    if (isArray(object)) return formatArray(object);
-    if (object instanceof Collection<?> collection) return smartFormat(collection);
-    if (object instanceof Map<?, ?> map) return toStringOf(map);
-    if (object instanceof Tuple tuple) return toStringOf(tuple);
-    if (object instanceof Map.Entry<?, ?> entry) return toStringOf(entry);
-    if (object instanceof Method method) return method.toGenericString();
-    if (object instanceof InsertDelta<?> delta) return toStringOf(delta);
-    if (object instanceof ChangeDelta<?> delta) return toStringOf(delta);
-    if (object instanceof DeleteDelta<?> delta) return toStringOf(delta);
+    if (isSubtypeNotOverridingToString(type, AtomicReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicReference<?>) object);
+    if (isSubtypeNotOverridingToString(type, AtomicMarkableReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicMarkableReference<?>) object);
+    if (isSubtypeNotOverridingToString(type, AtomicStampedReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicStampedReference<?>) object);
+    if (AtomicIntegerFieldUpdater.class.isAssignableFrom(type))
+      return (representation, object) -> AtomicIntegerFieldUpdater.class.getSimpleName();
+    if (AtomicLongFieldUpdater.class.isAssignableFrom(type))
+      return (representation, object) -> AtomicLongFieldUpdater.class.getSimpleName();
+    if (AtomicReferenceFieldUpdater.class.isAssignableFrom(type))
+      return (representation, object) -> AtomicReferenceFieldUpdater.class.getSimpleName();
+    if (File.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((File) object);
+    if (Path.class.isAssignableFrom(type)) return StandardRepresentation::fallbackToStringOf;
+    if (isUnquotedString(type)) return StandardRepresentation::toUnquotedStringOf;
+    if (String.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((String) object);
+    if (CharSequence.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((CharSequence) object);
+    if (Character.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Character) object);
+    if (Comparator.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((Comparator<?>) object);
+    if (SimpleDateFormat.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((SimpleDateFormat) object);
+    if (PredicateDescription.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((PredicateDescription) object);
+    if (Future.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Future<?>) object);
+    if (type.isArray()) return StandardRepresentation::formatArray;
+    if (Collection.class.isAssignableFrom(type))
+      return (representation, object) -> representation.smartFormat((Collection<?>) object);
+    if (Map.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Map<?, ?>) object);
+    if (Tuple.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Tuple) object);
+    if (Map.Entry.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((Map.Entry<?, ?>) object);
+    if (Method.class.isAssignableFrom(type)) return (representation, object) -> ((Method) object).toGenericString();
+    if (InsertDelta.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((InsertDelta<?>) object);
+    if (ChangeDelta.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((ChangeDelta<?>) object);
+    if (DeleteDelta.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((DeleteDelta<?>) object);
     // Only format Iterables that are not collections and have not overridden toString
     // ex: JsonNode is an Iterable that is best formatted with its own String
     // Path is another example, but we can deal with it specifically as it is part of the JDK.
-    if (object instanceof Iterable<?> iterable && !hasOverriddenToString(object.getClass())) return smartFormat(iterable);
-    if (object instanceof AtomicInteger atomicInteger) return toStringOf(atomicInteger);
-    if (object instanceof AtomicBoolean atomicBoolean) return toStringOf(atomicBoolean);
-    if (object instanceof AtomicLong atomicLong) return toStringOf(atomicLong);
-    if (object instanceof Number number) return toStringOf(number);
-    if (object instanceof Throwable throwable) return toStringOf(throwable);
-    return fallbackToStringOf(object);
-  }
-
-  private static boolean isUnquotedString(Object object) {
-    String className = object.getClass().getName();
+    if (Iterable.class.isAssignableFrom(type) && !hasOverriddenToString(type))
+      return (representation, object) -> representation.smartFormat((Iterable<?>) object);
+    if (AtomicInteger.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((AtomicInteger) object);
+    if (AtomicBoolean.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((AtomicBoolean) object);
+    if (AtomicLong.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((AtomicLong) object);
+    if (Number.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Number) object);
+    if (Throwable.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Throwable) object);
+    return StandardRepresentation::fallbackToStringOf;
+  }
+
+  private static boolean isUnquotedString(Class<?> type) {
+    String className = type.getName();
     return className.contains("org.assertj.core") && className.contains("UnquotedString");
   }
 
-  private static boolean isInstanceOfNotOverridingToString(Object object, Class<?> type) {
-    return type.isInstance(object) && !hasOverriddenToStringInSubclassOf(object.getClass(), type);
+  private static boolean isSubtypeNotOverridingToString(Class<?> type, Class<?> superType) {
+    return superType.isAssignableFrom(type) && !hasOverriddenToStringInSubclassOf(type, superType);
   }
 
   private static boolean hasOverriddenToString(Class<?> clazz) {
@@ -578,7 +613,21 @@ public class StandardRepresentation implements Representation {
   }
 
   protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
-    return format(iterable, start, end, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, iterable);
+    return singleLineFormat(iterable, start, end, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the single line {@code String} representation of the given {@code Iterable}, or {@code null} if it is longer
+   * than {@code maxLength}, in which case the rendering stops without representing the remaining elements.
+   *
+   * @param iterable the {@code Iterable} to format.
+   * @param start the start of the representation.
+   * @param end the end of the representation.
+   * @param maxLength the max length of the representation.
+   * @return the single line {@code String} representation of the given {@code Iterable} or {@code null}.
+   */
+  protected String singleLineFormat(Iterable<?> iterable, String start, String end, int maxLength) {
+    return format(iterable, start, end, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, iterable, maxLength);
   }
 
   /**
@@ -598,8 +647,9 @@ public class StandardRepresentation implements Representation {
       }
     }
 
-    String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
-    return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    // the single line description rendering stops as soon as it is too long instead of rendering all elements
+    String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END, maxLengthForSingleLineDescription);
+    return singleLineDescription != null ? singleLineDescription : multiLineFormat(iterable);
   }
 
   /**
@@ -615,8 +665,10 @@ public class StandardRepresentation implements Representation {
   }
 
   protected String smartFormat(Object[] array) {
-    String description = singleLineFormat(array, array);
-    return doesDescriptionFitOnSingleLine(description) ? description : multiLineFormat(array, array);
+    if (array == null) return null;
+    // the single line description rendering stops as soon as it is too long instead of rendering all elements
+    String description = singleLineFormat(array, array, maxLengthForSingleLineDescription);
+    return description != null ? description : multiLineFormat(array, array);
   }
 
   protected String formatPrimitiveArray(Object o) {
@@ -630,31 +682,62 @@ public class StandardRepresentation implements Representation {
   }
 
   protected String singleLineFormat(Object[] array, Object root) {
-    return format(array, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, root);
+    return singleLineFormat(array, root, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the single line {@code String} representation of the given array, or {@code null} if it is longer than
+   * {@code maxLength}, in which case the rendering stops without representing the remaining elements.
+   *
+   * @param array the array to format.
+   * @param root the object the array belongs to, used to detect self references.
+   * @param maxLength the max length of the representation.
+   * @return the single line {@code String} representation of the given array or {@code null}.
+   */
+  protected String singleLineFormat(Object[] array, Object root, int maxLength) {
+    return format(array, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, root, maxLength);
   }
 
   protected String format(Object[] array, String start, String end, String elementSeparator, String indentation, Object root) {
+    return format(array, start, end, elementSeparator, indentation, root, Integer.MAX_VALUE);
+  }
+
+  // returns null if the description is longer than maxLength
+  protected String format(Object[] array, String start, String end, String elementSeparator, String indentation, Object root,
+                          int maxLength) {
     if (array == null) return null;
     // root is used to avoid infinite recursion in case one element refers to it.
-    return format(java.util.Arrays.asList(array), start, end, elementSeparator, indentation, root);
+    return format(java.util.Arrays.asList(array), start, end, elementSeparator, indentation, root, maxLength);
   }
 
   protected String format(List<?> elements, String start, String end, String elementSeparator, String indentation,
                           Object root) {
+    return format(elements, start, end, elementSeparator, indentation, root, Integer.MAX_VALUE);
+  }
+
+  // returns null if the description is longer than maxLength
+  protected String format(List<?> elements, String start, String end, String elementSeparator, String indentation,
+                          Object root, int maxLength) {
     if (elements == null) return null;
     if (elements.isEmpty()) return start + end;
     List<String> representedElements = new TransformingList<>(elements, elem -> safeStringOf(elem, start, end, elementSeparator,
                                                                                              indentation, root));
-    return representGroup(representedElements, start, end, elementSeparator, indentation);
+    return representGroup(representedElements, start, end, elementSeparator, indentation, maxLength);
   }
 
   protected String format(Iterable<?> iterable, String start, String end, String elementSeparator, String indentation,
                           Object root) {
+    return format(iterable, start, end, elementSeparator, indentation, root, Integer.MAX_VALUE);
+  }
+
+  // returns null if the description is longer than maxLength
+  protected String format(Iterable<?> iterable, String start, String end, String elementSeparator, String indentation,
+                          Object root, int maxLength) {
     if (iterable == null) return null;
     Iterator<?> iterator = iterable.iterator();
     if (!iterator.hasNext()) return start + end;
     List<String> representedElements = representElements(iterable, start, end, elementSeparator, indentation, root);
-    return representGroup(representedElements, start, end, elementSeparator, indentation);
+    return representGroup(representedElements, start, end, elementSeparator, indentation, maxLength);
   }
 
   protected String safeStringOf(Object element, String start, String end, String elementSeparator, String indentation,
@@ -675,16 +758,26 @@ public class StandardRepresentation implements Representation {
   private List<String> representElements(Iterable<?> elements, String start, String end, String elementSeparator,
                                          String indentation, Object root) {
     int capacity = maxElementsForPrinting / 2 + 1;
-    HeadTailAccumulator<Object> accumulator = new HeadTailAccumulator<>(capacity, capacity);
-    elements.forEach(accumulator::add);
-
-    return accumulator.stream().map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root))
-                      .collect(toList());
+    List<?> displayedElements;
+    if (elements instanceof List<?> list && list instanceof RandomAccess) {
+      // no need to go through all the elements to get the first and last ones
+      displayedElements = list.size() <= 2 * capacity
+          ? list
+          : headAndTail(list.subList(0, capacity), list.subList(list.size() - capacity, list.size()));
+    } else {
+      HeadTailAccumulator<Object> accumulator = new HeadTailAccumulator<>(capacity, capacity);
+      elements.forEach(accumulator::add);
+      displayedElements = accumulator.stream().collect(toList());
+    }
+    // elements are represented lazily, only the ones that are displayed before reaching the max length are
+    return new TransformingList<>(displayedElements,
+                                  element -> safeStringOf(element, start, end, elementSeparator, indentation, root));
   }
 
-  // this method only deals with max number of elements to display, the elements representation is already computed
+  // this method only deals with max number of elements to display and the max length of the description, each element
+  // representation is computed when displayed, returns null as soon as the description is longer than maxLength
   private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
-                                       String indentation) {
+                                       String indentation, int maxLength) {
     int size = representedElements.size();
     StringBuilder desc = new StringBuilder(start);
     if (size <= maxElementsForPrinting) {
@@ -693,14 +786,16 @@ public class StandardRepresentation implements Representation {
         if (i != 0) desc.append(indentation);
         desc.append(representedElements.get(i));
         if (i != size - 1) desc.append(elementSeparator);
+        if (desc.length() > maxLength) return null;
       }
-      return desc.append(end).toString();
+      return desc.append(end).length() > maxLength ? null : desc.toString();
     }
     // we can't display all elements, picks the first and last maxElementsForPrinting/2 elements
     // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
     int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
     for (int i = 0; i < maxFirstElementsToPrint; i++) {
       desc.append(representedElements.get(i)).append(elementSeparator).append(indentation);
+      if (desc.length() > maxLength) return null;
     }
     desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
     // we only append a new line if the separator had one ",\n"
@@ -721,8 +816,9 @@ public class StandardRepresentation implements Representation {
     for (int i = size - maxLastElementsToPrint; i < size; i++) {
       if (i != size - maxLastElementsToPrint) desc.append(elementSeparator);
       desc.append(indentation).append(representedElements.get(i));
+      if (desc.length() > maxLength) return null;
     }
-    return desc.append(end).toString();
+    return desc.append(end).length() > maxLength ? null : desc.toString();
   }
 
   private String toStringOf(ChangeDelta<?> changeDelta) {
@@ -751,8 +847,10 @@ public class StandardRepresentation implements Representation {
     return format(lines, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE, "   ", lines);
   }
 
-  private static boolean doesDescriptionFitOnSingleLine(String singleLineDescription) {
-    return singleLineDescription == null || singleLineDescription.length() <= maxLengthForSingleLineDescription;
+  private static List<Object> headAndTail(List<?> head, List<?> tail) {
+    List<Object> elements = new ArrayList<>(head);
+    elements.addAll(tail);
+    return elements;
   }
 
   private static String identityHexCodeOf(Object obj) {
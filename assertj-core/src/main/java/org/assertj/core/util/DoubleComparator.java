@@ -12,7 +12,9 @@
  */
 package org.assertj.core.util;
 
-public class DoubleComparator extends NullSafeComparator<Double> {
+import org.assertj.core.internal.NonTransitiveComparator;
+
+public class DoubleComparator extends NullSafeComparator<Double> implements NonTransitiveComparator<Double> {
 
   private double precision;
 
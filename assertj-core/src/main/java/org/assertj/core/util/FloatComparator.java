@@ -12,7 +12,9 @@
  */
 package org.assertj.core.util;
 
-public class FloatComparator extends NullSafeComparator<Float> {
+import org.assertj.core.internal.NonTransitiveComparator;
+
+public class FloatComparator extends NullSafeComparator<Float> implements NonTransitiveComparator<Float> {
 
   private float precision;
 
@@ -14,23 +14,23 @@ package org.assertj.core.util;
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
-import static java.util.Collections.reverse;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.extractor.Extractors.byName;
 import static org.assertj.core.groups.FieldsOrPropertiesExtractor.extract;
-import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.ThrowableAssert;
+import org.assertj.core.internal.Failures;
 import org.assertj.core.util.introspection.IntrospectionError;
 
 /**
@@ -74,10 +74,14 @@ public final class Throwables {
    * @return The captured throwable or null if no throwable was raised.
    */
   public static Throwable catchThrowable(ThrowableAssert.ThrowingCallable shouldRaiseThrowable) {
+    // the caught throwable is looked at, if it is an assertion error it must be fully created
+    boolean probing = Failures.suspendProbing();
     try {
       shouldRaiseThrowable.call();
     } catch (Throwable throwable) {
       return throwable;
+    } finally {
+      Failures.resumeProbing(probing);
     }
     return null;
   }
@@ -138,9 +142,12 @@ public final class Throwables {
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
     if (throwable == null) return;
-    List<StackTraceElement> purgedStack = list();
-    boolean firstAssertjStackTraceElementFound = false;
     StackTraceElement[] stackTrace = throwable.getStackTrace();
+    // kept elements are written from the end of the array as the stack is traversed in reverse order,
+    // this keeps their original order without any intermediate list.
+    StackTraceElement[] purgedStack = new StackTraceElement[stackTrace.length];
+    int purgedStackStart = purgedStack.length;
+    boolean firstAssertjStackTraceElementFound = false;
     // traverse stack from the root element (main program) as it makes it easier to identify the first assertj element
     // then we ignore all assertj and java or jdk elements.
     for (int i = stackTrace.length - 1; i >= 0; i--) {
@@ -149,16 +156,14 @@ public final class Throwables {
         firstAssertjStackTraceElementFound = true;
         continue; // skip element
       }
-      if (!firstAssertjStackTraceElementFound) {
-        // keep everything before first assertj stack trace element
-        purgedStack.add(stackTraceElement);
-      } else {
-        // we already are in assertj stack, so now we also ignore java elements too as they come from assertj
-        if (!isFromJavaOrJdkPackages(stackTraceElement)) purgedStack.add(stackTraceElement);
+      // keep everything before first assertj stack trace element, after it we also ignore java elements as they come
+      // from assertj
+      if (!firstAssertjStackTraceElementFound || !isFromJavaOrJdkPackages(stackTraceElement)) {
+        purgedStack[--purgedStackStart] = stackTraceElement;
       }
     }
-    reverse(purgedStack); // reverse as we traversed the stack in reverse order when purging it.
-    throwable.setStackTrace(purgedStack.toArray(new StackTraceElement[0]));
+    if (purgedStackStart == 0) return; // nothing was removed
+    throwable.setStackTrace(Arrays.copyOfRange(purgedStack, purgedStackStart, purgedStack.length));
   }
 
   private static boolean isFromAssertJ(StackTraceElement stackTrace) {
@@ -0,0 +1,248 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * Eugene Myers differencing algorithm using linear space, suited to large sequences having few differences.
+ * <p>
+ * Compared to {@link MyersDiff}, this implementation:
+ * <ul>
+ * <li>first strips the common prefix and suffix of the sequences</li>
+ * <li>compares the remaining elements by an {@code int} identifier (equal elements sharing the same identifier)</li>
+ * <li>looks for the middle snake of the differences graph and recursively diffs both halves, as described in section 4b of
+ * <a href="http://www.xmailserver.org/diff2.pdf">the paper</a>, thus not keeping a path node per explored diagonal</li>
+ * <li>gives up looking for a minimal diff when the elements to compare have more than {@code maxDifferences} differences,
+ * the elements are then reported as a single {@link ChangeDelta}.</li>
+ * </ul>
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+public class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  /** The default maximum number of differences to look for before giving up. */
+  public static final int DEFAULT_MAX_DIFFERENCES = 10_000;
+
+  private final int maxDifferences;
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm giving up after
+   * {@value #DEFAULT_MAX_DIFFERENCES} differences.
+   */
+  public LinearSpaceMyersDiff() {
+    this(DEFAULT_MAX_DIFFERENCES);
+  }
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm.
+   *
+   * @param maxDifferences the number of differences (inserted or deleted elements) after which the elements that are
+   *          not part of the common prefix or suffix are reported as a single change.
+   */
+  public LinearSpaceMyersDiff(int maxDifferences) {
+    checkArgument(maxDifferences >= 0, "maxDifferences must be positive but was %s", maxDifferences);
+    this.maxDifferences = maxDifferences;
+  }
+
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    int prefixLength = 0;
+    int originalEnd = original.size();
+    int revisedEnd = revised.size();
+    while (prefixLength < originalEnd && prefixLength < revisedEnd
+           && original.get(prefixLength).equals(revised.get(prefixLength))) {
+      prefixLength++;
+    }
+    while (originalEnd > prefixLength && revisedEnd > prefixLength
+           && original.get(originalEnd - 1).equals(revised.get(revisedEnd - 1))) {
+      originalEnd--;
+      revisedEnd--;
+    }
+    Map<T, Integer> ids = new HashMap<>();
+    int[] originalIds = idsOf(original.subList(prefixLength, originalEnd), ids);
+    int[] revisedIds = idsOf(revised.subList(prefixLength, revisedEnd), ids);
+    int[] revisedMatches = new int[originalIds.length];
+    Arrays.fill(revisedMatches, -1);
+    new Comparison(originalIds, revisedIds, revisedMatches).diff(0, originalIds.length, 0, revisedIds.length);
+    return buildPatch(original, revised, prefixLength, revisedMatches, revisedIds.length);
+  }
+
+  private static <T> int[] idsOf(List<T> elements, Map<T, Integer> ids) {
+    int[] elementIds = new int[elements.size()];
+    int index = 0;
+    for (T element : elements) {
+      elementIds[index++] = ids.computeIfAbsent(element, unused -> ids.size());
+    }
+    return elementIds;
+  }
+
+  /**
+   * Builds the deltas between the matched elements, each delta covering the elements between two common subsequences.
+   */
+  private Patch<T> buildPatch(List<T> original, List<T> revised, int offset, int[] revisedMatches, int revisedLength) {
+    Patch<T> patch = new Patch<>();
+    int i = 0;
+    int j = 0;
+    while (i < revisedMatches.length || j < revisedLength) {
+      if (i < revisedMatches.length && revisedMatches[i] == j) {
+        i++;
+        j++;
+        continue;
+      }
+      int originalStart = i;
+      int revisedStart = j;
+      while (i < revisedMatches.length && revisedMatches[i] == -1) i++;
+      j = i < revisedMatches.length ? revisedMatches[i] : revisedLength;
+      Chunk<T> originalChunk = new Chunk<>(offset + originalStart, copyOfRange(original, offset + originalStart, offset + i));
+      Chunk<T> revisedChunk = new Chunk<>(offset + revisedStart, copyOfRange(revised, offset + revisedStart, offset + j));
+      patch.addDelta(deltaOf(originalChunk, revisedChunk));
+    }
+    return patch;
+  }
+
+  private static <T> Delta<T> deltaOf(Chunk<T> original, Chunk<T> revised) {
+    if (original.size() == 0) return new InsertDelta<>(original, revised);
+    if (revised.size() == 0) return new DeleteDelta<>(original, revised);
+    return new ChangeDelta<>(original, revised);
+  }
+
+  private static <T> List<T> copyOfRange(List<T> elements, int fromIndex, int toIndex) {
+    return new ArrayList<>(elements.subList(fromIndex, toIndex));
+  }
+
+  /**
+   * Matches the elements of two sequences of ids, recording for each original element the index of the revised element
+   * it is matched with.
+   */
+  private class Comparison {
+
+    private final int[] original;
+    private final int[] revised;
+    private final int[] revisedMatches;
+
+    Comparison(int[] original, int[] revised, int[] revisedMatches) {
+      this.original = original;
+      this.revised = revised;
+      this.revisedMatches = revisedMatches;
+    }
+
+    void diff(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      while (originalStart < originalEnd && revisedStart < revisedEnd && original[originalStart] == revised[revisedStart]) {
+        revisedMatches[originalStart++] = revisedStart++;
+      }
+      while (originalStart < originalEnd && revisedStart < revisedEnd
+             && original[originalEnd - 1] == revised[revisedEnd - 1]) {
+        revisedMatches[--originalEnd] = --revisedEnd;
+      }
+      if (originalStart == originalEnd || revisedStart == revisedEnd) return;
+      int[] split = middleSnakeEnd(originalStart, originalEnd, revisedStart, revisedEnd);
+      // no split means nothing in common or too many differences, all the elements are considered different
+      if (split == null) return;
+      diff(originalStart, split[0], revisedStart, split[1]);
+      diff(split[0], originalEnd, split[1], revisedEnd);
+    }
+
+    /**
+     * Explores the differences graph from both ends until the furthest reaching paths overlap, the returned point is the end
+     * of the middle snake of a minimal path.
+     */
+    private int[] middleSnakeEnd(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      int n = originalEnd - originalStart;
+      int m = revisedEnd - revisedStart;
+      int maxD = Math.min((n + m + 1) / 2, maxDifferences / 2 + 1);
+      int offset = maxD;
+      int length = 2 * maxD + 2;
+      // furthest x reached on each diagonal k, forward from the start and backward from the end
+      int[] forward = new int[length];
+      int[] backward = new int[length];
+      Arrays.fill(forward, -1);
+      Arrays.fill(backward, -1);
+      forward[offset + 1] = 0;
+      backward[offset + 1] = 0;
+      int delta = n - m;
+      // if the total number of differences is odd, the forward path will collide with the backward path
+      boolean front = delta % 2 != 0;
+      int forwardStart = 0;
+      int forwardEnd = 0;
+      int backwardStart = 0;
+      int backwardEnd = 0;
+      for (int d = 0; d < maxD; d++) {
+        for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+          int kOffset = offset + k;
+          int x = k == -d || (k != d && forward[kOffset - 1] < forward[kOffset + 1])
+              ? forward[kOffset + 1]
+              : forward[kOffset - 1] + 1;
+          int y = x - k;
+          while (x < n && y < m && original[originalStart + x] == revised[revisedStart + y]) {
+            x++;
+            y++;
+          }
+          forward[kOffset] = x;
+          if (x > n) {
+            forwardEnd += 2; // ran off the right of the graph
+          } else if (y > m) {
+            forwardStart += 2; // ran off the bottom of the graph
+          } else if (front) {
+            int backwardOffset = offset + delta - k;
+            if (backwardOffset >= 0 && backwardOffset < length && backward[backwardOffset] != -1
+                && x >= n - backward[backwardOffset]) {
+              return new int[] { originalStart + x, revisedStart + y };
+            }
+          }
+        }
+        for (int k = -d + backwardStart; k <= d - backwardEnd; k += 2) {
+          int kOffset = offset + k;
+          int x = k == -d || (k != d && backward[kOffset - 1] < backward[kOffset + 1])
+              ? backward[kOffset + 1]
+              : backward[kOffset - 1] + 1;
+          int y = x - k;
+          while (x < n && y < m && original[originalEnd - x - 1] == revised[revisedEnd - y - 1]) {
+            x++;
+            y++;
+          }
+          backward[kOffset] = x;
+          if (x > n) {
+            backwardEnd += 2; // ran off the left of the graph
+          } else if (y > m) {
+            backwardStart += 2; // ran off the top of the graph
+          } else if (!front) {
+            int forwardOffset = offset + delta - k;
+            if (forwardOffset >= 0 && forwardOffset < length && forward[forwardOffset] != -1) {
+              int forwardX = forward[forwardOffset];
+              int forwardY = forwardX - (forwardOffset - offset);
+              if (forwardX >= n - x) return new int[] { originalStart + forwardX, revisedStart + forwardY };
+            }
+          }
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -12,12 +12,18 @@
  */
 package org.assertj.core.util.introspection;
 
+import static java.lang.invoke.MethodType.methodType;
 import static java.lang.reflect.Modifier.isStatic;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -34,6 +40,14 @@ class FieldUtils {
   // use ConcurrentHashMap as FieldUtils can be used in a multi-thread context
   private static final Map<Class<?>, Map<String, Field>> fieldsPerClass = new ConcurrentHashMap<>();
 
+  // getters of the readable fields of a class by field name, resolved once per class to read fields without looking them up
+  private static final ClassValue<Map<String, MethodHandle>> FIELD_GETTERS = new ClassValue<>() {
+    @Override
+    protected Map<String, MethodHandle> computeValue(Class<?> type) {
+      return fieldGettersOf(type);
+    }
+  };
+
   /**
    * Gets an accessible <code>Field</code> by name breaking scope if requested. Superclasses/interfaces will be
    * considered.
@@ -164,6 +178,10 @@ class FieldUtils {
   static Object readField(Object target, String fieldName, boolean forceAccess) throws IllegalAccessException {
     checkArgument(target != null, "target object must not be null");
     Class<?> cls = target.getClass();
+    if (forceAccess) {
+      MethodHandle fieldGetter = FIELD_GETTERS.get(cls).get(fieldName);
+      if (fieldGetter != null) return readField(fieldGetter, target);
+    }
     Field field = getField(cls, fieldName, forceAccess);
     checkArgument(field != null, "Cannot locate field %s on %s", fieldName, cls);
     checkArgument(!isStatic(field.getModifiers()), "Reading static field is not supported and field %s is static on %s",
@@ -173,4 +191,42 @@ class FieldUtils {
     return readField(field, target);
   }
 
+  private static Object readField(MethodHandle fieldGetter, Object target) {
+    try {
+      return (Object) fieldGetter.invokeExact(target);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      // reading a field does not throw checked exceptions
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns getters for the fields that {@link #readField(Object, String, boolean)} can read when forcing access: the fields
+   * declared in the class or its superclasses, a field hiding the ones with the same name in superclasses.
+   * <p>
+   * Static and synthetic fields, and fields that can't be made accessible are left out so that reading them fails as usual.
+   */
+  private static Map<String, MethodHandle> fieldGettersOf(Class<?> cls) {
+    Map<String, MethodHandle> fieldGetters = new HashMap<>();
+    Set<String> fieldNames = new HashSet<>();
+    for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
+      for (Field field : acls.getDeclaredFields()) {
+        // only the first field found with a given name is read
+        if (!fieldNames.add(field.getName())) continue;
+        if (isStatic(field.getModifiers()) || field.isSynthetic()) continue;
+        try {
+          field.setAccessible(true);
+          MethodHandle fieldGetter = MethodHandles.lookup().unreflectGetter(field)
+                                                  .asType(methodType(Object.class, Object.class));
+          fieldGetters.put(field.getName(), fieldGetter);
+        } catch (RuntimeException | IllegalAccessException e) {
+          // field not accessible, ex: declared in a module that is not open
+        }
+      }
+    }
+    return fieldGetters;
+  }
+
 }
@@ -12,13 +12,15 @@
  */
 package org.assertj.core.util.introspection;
 
+import static java.lang.invoke.MethodType.methodType;
 import static java.lang.reflect.Modifier.isPublic;
 import static java.util.Locale.ENGLISH;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
 import static org.assertj.core.util.Strings.quote;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Map;
@@ -39,6 +41,8 @@ public final class Introspection {
   // We want to cache negative results (i.e. absence of methods) to avoid same overhead on subsequent lookups
   // However ConcurrentHashMap does not permit nulls - Optional allows caching of 'missing' values
   private static final Map<MethodKey, Optional<Method>> METHOD_CACHE = new ConcurrentHashMap<>();
+  // validated property getters by property name and target type, also caching the reason why there is none
+  private static final Map<MethodKey, PropertyGetter> PROPERTY_GETTER_CACHE = new ConcurrentHashMap<>();
 
   // set false by default to follow the principle of least surprise as usual property getter are getX() isX(), not x().
   private static boolean bareNamePropertyMethods = false;
@@ -57,31 +61,61 @@ public final class Introspection {
   public static Method getPropertyGetter(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     requireNonNull(target);
-    Method getter = findGetter(propertyName, target);
+    PropertyGetter getter = findPropertyGetter(propertyName, target);
+    // check that the getter can be invoked on target
+    getter.invoke(target);
+    return getter.method;
+  }
+
+  /**
+   * Returns the value of the property matching the given name in the given object, its getter is invoked only once.
+   *
+   * @param propertyName the given property name.
+   * @param target       the given object.
+   * @return the value of the property matching the given name in the given object.
+   * @throws NullPointerException     if the given property name is {@code null}.
+   * @throws IllegalArgumentException if the given property name is empty.
+   * @throws NullPointerException     if the given object is {@code null}.
+   * @throws IntrospectionError       if the getter for the matching property cannot be found, accessed or invoked.
+   */
+  public static Object getPropertyValue(String propertyName, Object target) {
+    checkNotNullOrEmpty(propertyName);
+    requireNonNull(target);
+    return findPropertyGetter(propertyName, target).invoke(target);
+  }
+
+  private static PropertyGetter findPropertyGetter(String propertyName, Object target) {
+    MethodKey propertyKey = new MethodKey(propertyName, target.getClass());
+    return PROPERTY_GETTER_CACHE.computeIfAbsent(propertyKey, Introspection::resolvePropertyGetter);
+  }
+
+  private static PropertyGetter resolvePropertyGetter(MethodKey propertyKey) {
+    String propertyName = propertyKey.name;
+    Class<?> targetType = propertyKey.clazz;
+    Method getter = findGetter(propertyName, targetType);
     if (getter == null) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("No getter for property %s in %s", propertyName, target));
+      return PropertyGetter.notFound(propertyNotFoundErrorMessage("No getter for property %s in %s", propertyName, targetType));
     }
     if (!isPublic(getter.getModifiers())) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("No public getter for property %s in %s", propertyName, target));
+      return PropertyGetter.notFound(propertyNotFoundErrorMessage("No public getter for property %s in %s", propertyName,
+                                                                  targetType));
     }
     try {
       // force access for static class with public getter
       getter.setAccessible(true);
-      getter.invoke(target);
-    } catch (InvocationTargetException ex) {
-      String message = "Unable to invoke getter %s in %s, exception: %s".formatted(getter.getName(),
-                                                                                   target.getClass().getSimpleName(),
-                                                                                   ex.getTargetException());
-      throw new IntrospectionError(message, ex, ex.getTargetException());
+      MethodHandle handle = MethodHandles.lookup().unreflect(getter).asType(methodType(Object.class, Object.class));
+      return new PropertyGetter(getter, handle);
     } catch (Exception t) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, target), t);
+      return PropertyGetter.notFound(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, targetType),
+                                     t);
     }
-    return getter;
   }
 
   public static void setExtractBareNamePropertyMethods(boolean bareNamePropertyMethods) {
     ConfigurationProvider.loadRegisteredConfiguration();
     Introspection.bareNamePropertyMethods = bareNamePropertyMethods;
+    // the getters found depend on this setting
+    PROPERTY_GETTER_CACHE.clear();
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -89,24 +123,24 @@ public final class Introspection {
     return bareNamePropertyMethods;
   }
 
-  private static String propertyNotFoundErrorMessage(String message, String propertyName, Object target) {
-    String targetTypeName = target.getClass().getName();
+  private static String propertyNotFoundErrorMessage(String message, String propertyName, Class<?> targetType) {
+    String targetTypeName = targetType.getName();
     String property = quote(propertyName);
     return message.formatted(property, targetTypeName);
   }
 
-  private static Method findGetter(String propertyName, Object target) {
+  private static Method findGetter(String propertyName, Class<?> targetType) {
     String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
     // try to find getProperty
-    Method getter = findMethod("get" + capitalized, target);
+    Method getter = findMethod("get" + capitalized, targetType);
     if (isValidGetter(getter)) return getter;
-    if (bareNamePropertyMethods || target instanceof Record) {
+    if (bareNamePropertyMethods || targetType.isRecord()) {
       // try to find bare name property
-      getter = findMethod(propertyName, target);
+      getter = findMethod(propertyName, targetType);
       if (isValidGetter(getter)) return getter;
     }
     // try to find isProperty for boolean properties
-    Method isAccessor = findMethod("is" + capitalized, target);
+    Method isAccessor = findMethod("is" + capitalized, targetType);
     return isValidGetter(isAccessor) ? isAccessor : null;
   }
 
@@ -114,8 +148,8 @@ public final class Introspection {
     return method != null && !Modifier.isStatic(method.getModifiers()) && !Void.TYPE.equals(method.getReturnType());
   }
 
-  private static Method findMethod(String name, Object target) {
-    final MethodKey methodKey = new MethodKey(name, target.getClass());
+  private static Method findMethod(String name, Class<?> targetType) {
+    final MethodKey methodKey = new MethodKey(name, targetType);
     return METHOD_CACHE.computeIfAbsent(methodKey, Introspection::findMethodByKey).orElse(null);
   }
 
@@ -158,6 +192,44 @@ public final class Introspection {
     }
   }
 
+  private static final class PropertyGetter {
+    private final Method method;
+    private final MethodHandle handle;
+    private final String notFoundErrorMessage;
+    private final Throwable notFoundErrorCause;
+
+    private PropertyGetter(Method method, MethodHandle handle) {
+      this(method, handle, null, null);
+    }
+
+    private PropertyGetter(Method method, MethodHandle handle, String notFoundErrorMessage, Throwable notFoundErrorCause) {
+      this.method = method;
+      this.handle = handle;
+      this.notFoundErrorMessage = notFoundErrorMessage;
+      this.notFoundErrorCause = notFoundErrorCause;
+    }
+
+    private static PropertyGetter notFound(String errorMessage) {
+      return notFound(errorMessage, null);
+    }
+
+    private static PropertyGetter notFound(String errorMessage, Throwable cause) {
+      return new PropertyGetter(null, null, errorMessage, cause);
+    }
+
+    private Object invoke(Object target) {
+      if (method == null) throw new IntrospectionError(notFoundErrorMessage, notFoundErrorCause);
+      try {
+        return (Object) handle.invokeExact(target);
+      } catch (Throwable getterException) {
+        String message = "Unable to invoke getter %s in %s, exception: %s".formatted(method.getName(),
+                                                                                     target.getClass().getSimpleName(),
+                                                                                     getterException);
+        throw new IntrospectionError(message, getterException, getterException);
+      }
+    }
+  }
+
   private Introspection() {}
 
 }
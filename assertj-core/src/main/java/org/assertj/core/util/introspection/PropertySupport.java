@@ -19,8 +19,8 @@ import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Streams.stream;
 import static org.assertj.core.util.introspection.Introspection.getPropertyGetter;
+import static org.assertj.core.util.introspection.Introspection.getPropertyValue;
 
-import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
 
@@ -143,17 +143,14 @@ public class PropertySupport {
    */
   @SuppressWarnings("unchecked")
   public <T> T propertyValue(String propertyName, Class<T> clazz, Object target) {
-    Method getter = getPropertyGetter(propertyName, target);
+    Object propertyValue = getPropertyValue(propertyName, target);
     try {
-      return (T) getter.invoke(target);
+      return (T) propertyValue;
     } catch (ClassCastException e) {
       String msg = "Unable to obtain the value of the property <'%s'> from <%s> - wrong property type specified <%s>".formatted(propertyName,
                                                                                                                                 target,
                                                                                                                                 clazz);
       throw new IntrospectionError(msg, e);
-    } catch (Exception unexpected) {
-      String msg = "Unable to obtain the value of the property <'%s'> from <%s>".formatted(propertyName, target);
-      throw new IntrospectionError(msg, unexpected);
     }
   }
 
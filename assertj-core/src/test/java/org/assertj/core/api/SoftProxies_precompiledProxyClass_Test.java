@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.SoftProxies.precompiledProxyClass;
+import static org.assertj.core.api.SoftProxies.precompiledProxyClassName;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class SoftProxies_precompiledProxyClass_Test {
+
+  @Test
+  void should_load_precompiled_proxy_of_assert_class() {
+    // WHEN
+    Optional<Class<? extends PrecompiledAssert>> proxyClass = precompiledProxyClass(PrecompiledAssert.class);
+    // THEN
+    then(proxyClass).contains(PrecompiledAssert.ByteBuddy.SoftProxy.class);
+  }
+
+  @Test
+  void should_ignore_precompiled_proxy_not_extending_assert_class() {
+    // WHEN
+    Optional<Class<? extends InvalidPrecompiledAssert>> proxyClass = precompiledProxyClass(InvalidPrecompiledAssert.class);
+    // THEN
+    then(proxyClass).isEmpty();
+  }
+
+  @Test
+  void should_return_empty_when_assert_class_has_no_precompiled_proxy() {
+    // WHEN
+    Optional<Class<? extends NotPrecompiledAssert>> proxyClass = precompiledProxyClass(NotPrecompiledAssert.class);
+    // THEN
+    then(proxyClass).isEmpty();
+  }
+
+  @Test
+  void should_name_precompiled_proxy_after_assert_class() {
+    // WHEN
+    String proxyClassName = precompiledProxyClassName(PrecompiledAssert.class);
+    // THEN
+    then(proxyClassName).isEqualTo(PrecompiledAssert.ByteBuddy.SoftProxy.class.getName());
+  }
+
+  @Test
+  void should_use_proxy_generated_at_build_time() throws Exception {
+    // GIVEN
+    // the generated proxy must be visible to the class loader of the assert class, like in the assertj-core jar
+    Path classesDirectory = Path.of(GeneratedAssert.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    Path proxyClassFile = classesDirectory.resolve(precompiledProxyClassName(GeneratedAssert.class).replace('.', '/') + ".class");
+    SoftAssertions softly = new SoftAssertions();
+    try {
+      // generates the proxy like SoftProxiesGenerator which is not part of the test sources
+      SoftProxies.proxyClassBuilder(GeneratedAssert.class)
+                 .name(precompiledProxyClassName(GeneratedAssert.class))
+                 .make()
+                 .saveIn(classesDirectory.toFile());
+      Class<?> proxyClass = Class.forName(precompiledProxyClassName(GeneratedAssert.class), true,
+                                          GeneratedAssert.class.getClassLoader());
+      // WHEN
+      GeneratedAssert softAssert = softly.proxy(GeneratedAssert.class, Object.class, "actual");
+      softAssert.isGenerated();
+      // THEN
+      then(softAssert).isExactlyInstanceOf(proxyClass);
+      then(softly.errorsCollected()).singleElement()
+                                    .extracting(Throwable::getMessage)
+                                    .isEqualTo("expecting a generated actual");
+    } finally {
+      Files.deleteIfExists(proxyClassFile);
+    }
+  }
+
+  static class PrecompiledAssert extends AbstractAssert<PrecompiledAssert, Object> {
+
+    PrecompiledAssert(Object actual) {
+      super(actual, PrecompiledAssert.class);
+    }
+
+    // binary name is PrecompiledAssert$ByteBuddy$SoftProxy like the proxies generated by SoftProxiesGenerator
+    static class ByteBuddy {
+      static class SoftProxy extends PrecompiledAssert implements AssertJProxySetup {
+
+        SoftProxy(Object actual) {
+          super(actual);
+        }
+
+        @Override
+        public void assertj$setup(ProxifyMethodChangingTheObjectUnderTest proxifyMethodChangingTheObjectUnderTest,
+                                  ErrorCollector errorCollector) {}
+      }
+    }
+  }
+
+  static class InvalidPrecompiledAssert extends AbstractAssert<InvalidPrecompiledAssert, Object> {
+
+    InvalidPrecompiledAssert(Object actual) {
+      super(actual, InvalidPrecompiledAssert.class);
+    }
+
+    static class ByteBuddy {
+      static class SoftProxy {}
+    }
+  }
+
+  static class NotPrecompiledAssert extends AbstractAssert<NotPrecompiledAssert, Object> {
+
+    NotPrecompiledAssert(Object actual) {
+      super(actual, NotPrecompiledAssert.class);
+    }
+  }
+
+  static class GeneratedAssert extends AbstractAssert<GeneratedAssert, Object> {
+
+    public GeneratedAssert(Object actual) {
+      super(actual, GeneratedAssert.class);
+    }
+
+    public GeneratedAssert isGenerated() {
+      throw failure("expecting a generated actual");
+    }
+  }
+}
@@ -15,6 +15,7 @@ package org.assertj.core.api.iterable;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.presentation.UnicodeRepresentation.UNICODE_REPRESENTATION;
 import static org.assertj.core.util.Sets.newHashSet;
 
@@ -38,6 +39,25 @@ class IterableAssert_filteredOnAssertions_consumer_Test extends IterableAssert_f
                                      .containsOnly(yoda, obiwan);
   }
 
+  @Test
+  void should_filter_out_elements_failing_with_a_cause() {
+    assertThat(employees).filteredOnAssertions(employee -> {
+      if (employee.getAge() <= 100) fail("too young", new IllegalStateException("boom!"));
+    }).containsOnly(yoda, obiwan);
+  }
+
+  @Test
+  void should_filter_out_elements_failing_in_try_with_resources() {
+    for (int i = 0; i < 3; i++) {
+      assertThat(employees).filteredOnAssertions(employee -> {
+        try (Transaction transaction = new Transaction()) {
+          assertThat(employee.getAge()).isGreaterThan(100);
+          transaction.commit();
+        }
+      }).containsOnly(yoda, obiwan);
+    }
+  }
+
   @Test
   void should_fail_if_given_consumer_is_null() {
     assertThatIllegalArgumentException().isThrownBy(() -> {
@@ -63,4 +83,18 @@ class IterableAssert_filteredOnAssertions_consumer_Test extends IterableAssert_f
     assertThat(assertion.info.overridingErrorMessage()).isEqualTo("error message");
   }
 
+  private static class Transaction implements AutoCloseable {
+
+    private boolean committed;
+
+    void commit() {
+      committed = true;
+    }
+
+    @Override
+    public void close() {
+      if (!committed) throw new IllegalStateException("rolled back");
+    }
+  }
+
 }
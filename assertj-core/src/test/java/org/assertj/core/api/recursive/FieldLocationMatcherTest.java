@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.FieldLocationMatcher.matchingFields;
+import static org.assertj.core.api.recursive.FieldLocationMatcher.matchingFieldsAndTheirChildren;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.assertj.core.api.recursive.comparison.FieldLocation;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class FieldLocationMatcherTest {
+
+  @ParameterizedTest(name = "{0} matches {1}: {2}")
+  @CsvSource({
+      "name.first, name, true",
+      "name.first.nickname, name.first, true",
+      "name, name, true",
+      "name, name.first, false",
+      "person.name, name, false",
+      "names, name, false",
+      "nickname, name, false",
+  })
+  void should_match_field_paths_and_their_children_like_field_location(String path, String fieldPath, boolean expected) {
+    // GIVEN
+    FieldLocation fieldLocation = new FieldLocation(path);
+    FieldLocationMatcher matcher = matchingFieldsAndTheirChildren(list(fieldPath), list());
+    // WHEN
+    boolean matches = matcher.matches(fieldLocation);
+    // THEN
+    then(matches).isEqualTo(expected)
+                 .isEqualTo(fieldLocation.hierarchyMatches(fieldPath));
+  }
+
+  @ParameterizedTest(name = "{0} matches {1}: {2}")
+  @CsvSource({
+      "name.first, name, true",
+      "name.first, ..me, true",
+      "name.first.nickname, name.first, true",
+      "name, name.first, false",
+      "person.name, name, false",
+      "names, name, false",
+  })
+  void should_match_regexes_on_fields_and_their_children_like_field_location(String path, String regex, boolean expected) {
+    // GIVEN
+    FieldLocation fieldLocation = new FieldLocation(path);
+    Pattern pattern = Pattern.compile(regex);
+    FieldLocationMatcher matcher = matchingFieldsAndTheirChildren(list(), list(pattern));
+    // WHEN
+    boolean matches = matcher.matches(fieldLocation);
+    // THEN
+    then(matches).isEqualTo(expected)
+                 .isEqualTo(fieldLocation.hierarchyMatchesRegex(pattern));
+  }
+
+  @Test
+  void should_only_match_exact_field_paths_or_regexes() {
+    // GIVEN
+    FieldLocationMatcher matcher = matchingFields(list("name"), list(Pattern.compile(".*friends")));
+    // WHEN/THEN
+    then(matcher.matches(new FieldLocation("name"))).isTrue();
+    then(matcher.matches(new FieldLocation("name.first"))).isFalse();
+    then(matcher.matches(new FieldLocation(list("friends", "[0]")))).isTrue();
+    then(matcher.matches(new FieldLocation("best.friends"))).isTrue();
+    then(matcher.matches(new FieldLocation("best.friends.name"))).isFalse();
+  }
+
+  @Test
+  void should_match_the_same_path_consistently() {
+    // GIVEN
+    FieldLocationMatcher matcher = matchingFieldsAndTheirChildren(list("name"), list());
+    List<FieldLocation> fieldLocations = list(new FieldLocation(list("[0]", "name", "first")),
+                                              new FieldLocation(list("[1]", "name", "first")));
+    // WHEN/THEN
+    then(fieldLocations).allMatch(matcher::matches);
+    then(fieldLocations).allMatch(matcher::matches);
+  }
+
+  @Test
+  void should_never_match_when_empty() {
+    // GIVEN
+    FieldLocationMatcher matcher = matchingFieldsAndTheirChildren(list(), list());
+    // WHEN/THEN
+    then(matcher.isEmpty()).isTrue();
+    then(matcher.matches(new FieldLocation("name"))).isFalse();
+  }
+
+  @Test
+  void configuration_should_take_into_account_fields_ignored_after_having_been_used() {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+    configuration.ignoreFields("name");
+    FieldLocation fieldLocation = new FieldLocation("address.street");
+    then(configuration.matchesAnIgnoredFieldOrFieldRegex(fieldLocation)).isFalse();
+    // WHEN
+    configuration.ignoreFieldsMatchingRegexes("addr.*");
+    // THEN
+    then(configuration.matchesAnIgnoredFieldOrFieldRegex(fieldLocation)).isTrue();
+  }
+}
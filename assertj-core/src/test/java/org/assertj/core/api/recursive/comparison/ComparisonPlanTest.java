@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.ComparisonPlan.planOf;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.recursive.comparison.ComparisonPlan.Kind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ComparisonPlanTest {
+
+  @ParameterizedTest
+  @MethodSource
+  void should_compute_the_kind_of_comparison_of_the_value_type(Object value, Kind expectedKind) {
+    // WHEN
+    Kind kind = planOf(value).kind;
+    // THEN
+    then(kind).isEqualTo(expectedKind);
+  }
+
+  static Stream<Arguments> should_compute_the_kind_of_comparison_of_the_value_type() {
+    return Stream.of(Arguments.of(new int[0], Kind.ARRAY),
+                     Arguments.of(new Object[0], Kind.ARRAY),
+                     Arguments.of(new ArrayList<>(), Kind.ORDERED_COLLECTION),
+                     Arguments.of(new TreeSet<>(), Kind.ORDERED_COLLECTION),
+                     Arguments.of(new LinkedHashSet<>(), Kind.ORDERED_COLLECTION),
+                     Arguments.of(new HashSet<>(), Kind.ITERABLE),
+                     Arguments.of(Optional.empty(), Kind.OPTIONAL),
+                     Arguments.of(new TreeMap<>(), Kind.SORTED_MAP),
+                     Arguments.of(new HashMap<>(), Kind.MAP),
+                     Arguments.of(new AtomicLong(), Kind.ATOMIC_LONG),
+                     Arguments.of(new AtomicReference<>(), Kind.ATOMIC_REFERENCE),
+                     Arguments.of(Paths.get("/tmp"), Kind.OBJECT),
+                     Arguments.of("abc", Kind.OBJECT),
+                     Arguments.of(null, Kind.OBJECT));
+  }
+
+  @Test
+  void should_compute_the_plan_once_per_class() {
+    // WHEN
+    ComparisonPlan plan = planOf(new ArrayList<>());
+    // THEN
+    then(planOf(new ArrayList<>())).isSameAs(plan);
+  }
+
+  @Test
+  void should_not_consider_paths_as_iterables() {
+    // WHEN
+    ComparisonPlan plan = planOf(Paths.get("/tmp"));
+    // THEN
+    then(plan.iterable).isFalse();
+  }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+import org.assertj.core.api.recursive.comparison.UnorderedElementsMatcher.MatchingResult;
+import org.junit.jupiter.api.Test;
+
+class UnorderedElementsMatcherTest {
+
+  @Test
+  void should_match_all_elements_regardless_of_their_order() {
+    // GIVEN
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(Objects::equals, null, null);
+    // WHEN
+    MatchingResult matchingResult = matcher.match(list("a", "b", "c", "a"), list("a", "c", "a", "b"));
+    // THEN
+    then(matchingResult.allExpectedElementsMatched()).isTrue();
+    then(matchingResult.unmatchedActualElements).isEmpty();
+  }
+
+  @Test
+  void should_report_unmatched_expected_and_actual_elements() {
+    // GIVEN
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(Objects::equals, null, null);
+    // WHEN
+    MatchingResult matchingResult = matcher.match(list("a", "a", "b"), list("a", "b", "c"));
+    // THEN
+    then(matchingResult.unmatchedExpectedElements).containsExactly("c");
+    then(matchingResult.unmatchedActualElements).containsExactly("a");
+  }
+
+  @Test
+  void should_match_elements_with_different_hash_codes() {
+    // GIVEN
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher((actual, expected) -> ((String) actual).equalsIgnoreCase((String) expected),
+                                                                    null, null);
+    // WHEN
+    MatchingResult matchingResult = matcher.match(list("a", "B"), list("b", "A"));
+    // THEN
+    then(matchingResult.allExpectedElementsMatched()).isTrue();
+  }
+
+  @Test
+  void should_only_compare_elements_with_the_same_key() {
+    // GIVEN
+    AtomicInteger comparisons = new AtomicInteger();
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher((actual, expected) -> {
+      comparisons.incrementAndGet();
+      return actual.equals(expected);
+    }, String.class, element -> ((String) element).length());
+    List<String> actual = list("a", "bb", "ccc", "dddd");
+    List<String> expected = list("dddd", "ccc", "bb", "x");
+    // WHEN
+    MatchingResult matchingResult = matcher.match(actual, expected);
+    // THEN
+    then(matchingResult.unmatchedExpectedElements).containsExactly("x");
+    then(matchingResult.unmatchedActualElements).containsExactly("a");
+    then(comparisons).hasValue(4);
+  }
+
+  @Test
+  void should_match_elements_by_hash_code_when_the_matching_key_does_not_apply_to_them() {
+    // GIVEN
+    AtomicInteger keyComputations = new AtomicInteger();
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(Objects::equals, List.class, element -> {
+      keyComputations.incrementAndGet();
+      return ((List<?>) element).size();
+    });
+    // WHEN
+    MatchingResult matchingResult = matcher.match(list("a", "b"), list("b", "a"));
+    // THEN
+    then(matchingResult.allExpectedElementsMatched()).isTrue();
+    then(keyComputations).hasValue(0);
+  }
+
+  @Test
+  void should_match_null_elements_by_a_null_key() {
+    // GIVEN
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(Objects::equals, String.class,
+                                                                    element -> ((String) element).length());
+    // WHEN
+    MatchingResult matchingResult = matcher.match(list("a", null, "bb"), list(null, "bb", "a"));
+    // THEN
+    then(matchingResult.allExpectedElementsMatched()).isTrue();
+    then(matchingResult.unmatchedActualElements).isEmpty();
+  }
+
+  @Test
+  void should_propagate_exceptions_thrown_by_the_matching_key_extractor() {
+    // GIVEN
+    ClassCastException classCastException = new ClassCastException("boom!");
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(Objects::equals, String.class, element -> {
+      throw classCastException;
+    });
+    // WHEN
+    Throwable thrown = catchThrowable(() -> matcher.match(list("a"), list("a")));
+    // THEN
+    then(thrown).isSameAs(classCastException);
+  }
+
+  @Test
+  void should_match_elements_greedily() {
+    // GIVEN
+    BiPredicate<Object, Object> closeTo = (actual, expected) -> Math.abs((double) actual - (double) expected) <= 0.1;
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(closeTo, null, null);
+    // WHEN
+    MatchingResult matchingResult = matcher.match(list(1.0, 1.15), list(1.08, 1.0));
+    // THEN
+    // 1.08 with 1.15 and 1.0 with 1.0 would match all elements, but 1.08 is matched first with 1.0 and no other pairing is tried
+    then(matchingResult.unmatchedExpectedElements).containsExactly(1.0);
+    then(matchingResult.unmatchedActualElements).containsExactly(1.15);
+  }
+}
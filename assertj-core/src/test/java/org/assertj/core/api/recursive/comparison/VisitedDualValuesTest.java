@@ -64,4 +64,34 @@ class VisitedDualValuesTest {
     // THEN
     then(optionalComparisonDifferences).isEmpty();
   }
+
+  @Test
+  void should_return_the_registered_differences_of_same_values_at_a_different_location() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    Object actual = new Object();
+    Object expected = new Object();
+    DualValue dualValue = new DualValue(list("neighbour"), actual, expected);
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+    DualValue sameValuesOtherLocation = new DualValue(list("neighbour", "neighbour"), actual, expected);
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(sameValuesOtherLocation);
+    // THEN
+    then(optionalComparisonDifferences).isPresent();
+    then(optionalComparisonDifferences.get()).containsExactly(comparisonDifference);
+  }
+
+  @Test
+  void should_not_match_equal_but_not_same_values() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    visitedDualValues.registerVisitedDualValue(new DualValue(list(""), new String("abc"), "abc"));
+    DualValue dualValue = new DualValue(list(""), new String("abc"), "abc");
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(dualValue);
+    // THEN
+    then(optionalComparisonDifferences).isEmpty();
+  }
 }
@@ -12,9 +12,12 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenExceptionOfType;
 import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
 
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +43,40 @@ class ConstructorInvoker_newInstance_Test {
     then(o).asInstanceOf(THROWABLE)
            .hasMessage("Hi");
   }
+
+  @Test
+  void should_create_a_new_Object_on_each_call() throws Exception {
+    // GIVEN
+    Class<?>[] parameterTypes = { String.class };
+    Object first = invoker.newInstance("java.lang.Exception", parameterTypes, "Hi");
+    // WHEN
+    Object second = invoker.newInstance("java.lang.Exception", parameterTypes, "Hello");
+    // THEN
+    then(second).isNotSameAs(first)
+                .asInstanceOf(THROWABLE)
+                .hasMessage("Hello");
+  }
+
+  @Test
+  void should_throw_a_new_lookup_failure_on_each_call_if_the_class_is_not_in_the_classpath() {
+    // GIVEN
+    ThrowingCallable newInstance = () -> invoker.newInstance("org.unknown.Error", new Class<?>[] { String.class }, "Hi");
+    // WHEN
+    Throwable first = catchThrowable(newInstance);
+    Throwable second = catchThrowable(newInstance);
+    // THEN
+    then(first).isInstanceOf(ClassNotFoundException.class)
+               .hasMessage("org.unknown.Error");
+    then(second).isInstanceOf(ClassNotFoundException.class)
+                .hasMessage("org.unknown.Error")
+                .isNotSameAs(first);
+  }
+
+  @Test
+  void should_throw_the_lookup_failure_if_there_is_no_matching_constructor() {
+    // GIVEN
+    ThrowingCallable newInstance = () -> invoker.newInstance("java.lang.Exception", new Class<?>[] { Integer.class }, 1);
+    // WHEN/THEN
+    thenExceptionOfType(NoSuchMethodException.class).isThrownBy(newInstance);
+  }
 }
@@ -17,6 +17,7 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldSatisfy.shouldSatisfy;
 import static org.assertj.core.error.ShouldSatisfy.shouldSatisfyExactlyInAnyOrder;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import org.assertj.core.api.TestCondition;
@@ -57,4 +58,18 @@ class ShouldSatisfy_create_Test {
                                    + "  [\"Luke\", \"Leia\", \"Yoda\"]%n"
                                    + "to satisfy all the consumers in any order."));
   }
+
+  @Test
+  void should_create_error_message_with_the_consumers_that_cannot_be_matched_to_distinct_elements() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldSatisfyExactlyInAnyOrder(newArrayList("Luke", "Leia", "Yoda"), list(0, 2));
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n"
+                                   + "Expecting actual:%n"
+                                   + "  [\"Luke\", \"Leia\", \"Yoda\"]%n"
+                                   + "to satisfy all the consumers in any order, but no distinct elements satisfy the consumers at indexes:%n"
+                                   + "  [0, 2]"));
+  }
 }
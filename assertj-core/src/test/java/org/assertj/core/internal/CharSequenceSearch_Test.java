@@ -0,0 +1,51 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.CharSequenceSearch.searching;
+
+import org.junit.jupiter.api.Test;
+
+class CharSequenceSearch_Test {
+
+  @Test
+  void should_find_sequence_in_strings_and_other_char_sequences() {
+    then(searching("na").indexIn("banana", 0)).isEqualTo(2);
+    then(searching("na").indexIn("banana", 3)).isEqualTo(4);
+    then(searching(new StringBuilder("na")).indexIn(new StringBuilder("banana"), 3)).isEqualTo(4);
+    then(searching(new StringBuilder("nab")).indexIn(new StringBuilder("banana"), 0)).isEqualTo(-1);
+  }
+
+  @Test
+  void should_find_sequence_with_characters_having_the_same_low_byte() {
+    // 'š' (U+0161) has the same low byte as 'a' (U+0061)
+    then(searching(new StringBuilder("ab")).indexIn(new StringBuilder("šbab"), 0)).isEqualTo(2);
+    then(searching(new StringBuilder("ša")).indexIn(new StringBuilder("aašaa"), 0)).isEqualTo(2);
+  }
+
+  @Test
+  void should_find_empty_sequence_at_the_start_index() {
+    then(searching("").indexIn(new StringBuilder("abc"), 1)).isEqualTo(1);
+    then(searching("").indexIn(new StringBuilder("abc"), 3)).isEqualTo(3);
+    then(searching("").indexIn("abc", 4)).isEqualTo(-1);
+  }
+
+  @Test
+  void should_count_overlapping_occurrences() {
+    then(searching("aa").occurrencesIn("aaaa")).isEqualTo(3);
+    then(searching(new StringBuilder("aba")).occurrencesIn(new StringBuilder("ababab"))).isEqualTo(2);
+    then(searching("").occurrencesIn("abc")).isEqualTo(4);
+    then(searching("d").occurrencesIn("abc")).isZero();
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.testkit.TestData.someInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.description.Description;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.presentation.Representation;
+import org.junit.jupiter.api.Test;
+
+class Failures_probe_Test {
+
+  private final Failures failures = Failures.instance();
+
+  @Test
+  void should_return_true_if_assertions_pass() {
+    // WHEN
+    boolean passed = Failures.probe(() -> assertThat("Yoda").startsWith("Yo"));
+    // THEN
+    then(passed).isTrue();
+  }
+
+  @Test
+  void should_return_false_if_assertions_fail() {
+    // WHEN
+    boolean passed = Failures.probe(() -> assertThat("Yoda").startsWith("Lu"));
+    // THEN
+    then(passed).isFalse();
+  }
+
+  @Test
+  void should_not_create_error_messages_while_probing() {
+    // GIVEN
+    CountingErrorMessageFactory errorMessageFactory = new CountingErrorMessageFactory();
+    // WHEN
+    boolean passed = Failures.probe(() -> {
+      throw failures.failure(someInfo(), errorMessageFactory);
+    });
+    // THEN
+    then(passed).isFalse();
+    then(errorMessageFactory.creations).hasValue(0);
+  }
+
+  @Test
+  void should_create_error_messages_once_probe_is_over() {
+    // GIVEN
+    CountingErrorMessageFactory errorMessageFactory = new CountingErrorMessageFactory();
+    Failures.probe(() -> assertThat("Yoda").startsWith("Lu"));
+    // WHEN
+    AssertionError assertionError = failures.failure(someInfo(), errorMessageFactory);
+    // THEN
+    then(assertionError).hasMessageContaining("boom!");
+    then(errorMessageFactory.creations).hasValue(1);
+  }
+
+  @Test
+  void should_create_a_new_failure_for_each_failing_probe() {
+    // GIVEN
+    List<AssertionError> failuresSeen = new ArrayList<>();
+    Runnable failingAssertions = () -> {
+      try (AutoCloseable resource = () -> {
+        throw new IllegalStateException("close failed");
+      }) {
+        assertThat("Yoda").startsWith("Lu");
+      } catch (AssertionError e) {
+        failuresSeen.add(e);
+        throw e;
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    };
+    // WHEN
+    Failures.probe(failingAssertions);
+    Failures.probe(failingAssertions);
+    // THEN
+    then(failuresSeen).hasSize(2)
+                      .doesNotHaveDuplicates()
+                      .allSatisfy(failure -> then(failure.getSuppressed()).hasSize(1));
+  }
+
+  @Test
+  void should_let_failing_probes_set_their_cause() {
+    // GIVEN
+    IllegalStateException cause = new IllegalStateException("boom!");
+    // WHEN
+    boolean passed = Failures.probe(() -> fail("Yoda", cause));
+    // THEN
+    then(passed).isFalse();
+  }
+
+  @Test
+  void should_fully_create_errors_caught_while_probing() {
+    // WHEN
+    boolean passed = Failures.probe(() -> {
+      AssertionError assertionError = catchThrowableOfType(AssertionError.class, () -> assertThat("Yoda").startsWith("Lu"));
+      assertThat(assertionError).hasMessageContaining("Lu");
+      assertThatThrownBy(() -> assertThat("Yoda").endsWith("ke")).hasMessageContaining("ke");
+    });
+    // THEN
+    then(passed).isTrue();
+  }
+
+  @Test
+  void should_fully_create_soft_assertions_errors_collected_while_probing() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    boolean passed = Failures.probe(() -> softly.assertThat("Yoda").startsWith("Lu"));
+    // THEN
+    then(passed).isTrue();
+    then(softly.errorsCollected()).singleElement()
+                                  .satisfies(error -> assertThat(error).hasMessageContaining("Lu"));
+  }
+
+  @Test
+  void should_fully_create_soft_assertions_failures_collected_while_probing() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    IllegalStateException cause = new IllegalStateException("boom!");
+    // WHEN
+    boolean passed = Failures.probe(() -> {
+      softly.fail("Yoda");
+      softly.fail("Luke", cause);
+      softly.failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+    });
+    // THEN
+    then(passed).isTrue();
+    then(softly.errorsCollected()).satisfiesExactly(error -> then(error).hasMessage("Yoda"),
+                                                    error -> then(error).hasMessage("Luke").hasCause(cause),
+                                                    error -> then(error).hasMessageContaining("IllegalArgumentException"));
+  }
+
+  private static class CountingErrorMessageFactory implements ErrorMessageFactory {
+
+    private final AtomicInteger creations = new AtomicInteger();
+
+    @Override
+    public String create(Description d, Representation p) {
+      creations.incrementAndGet();
+      return new BasicErrorMessageFactory("boom!").create(d, p);
+    }
+  }
+}
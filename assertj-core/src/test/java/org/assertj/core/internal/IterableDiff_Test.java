@@ -14,6 +14,7 @@ package org.assertj.core.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.testkit.NameWithoutHashCode.nameWithoutHashCode;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
@@ -23,6 +24,7 @@ import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 import org.assertj.core.testkit.CaseInsensitiveStringComparator;
+import org.assertj.core.testkit.NameWithoutHashCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -142,6 +144,45 @@ class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  void should_report_difference_between_two_iterables_with_null_elements() {
+    // GIVEN
+    actual = newArrayList(null, "#", null);
+    expected = newArrayList("#", null, "$");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly("$");
+    assertThat(diff.unexpected).containsExactly((String) null);
+  }
+
+  @Test
+  void should_compare_array_elements_by_content() {
+    // GIVEN
+    List<int[]> actual = newArrayList(new int[] { 1, 2 }, new int[] { 3 });
+    List<int[]> expected = newArrayList(new int[] { 3 }, new int[] { 1, 2 });
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_compare_elements_overriding_equals_but_not_hashCode() {
+    // GIVEN
+    List<NameWithoutHashCode> actual = newArrayList(nameWithoutHashCode("Luke"), nameWithoutHashCode("Yoda"),
+                                                    nameWithoutHashCode("Yoda"));
+    List<NameWithoutHashCode> expected = newArrayList(nameWithoutHashCode("Yoda"), nameWithoutHashCode("Leia"),
+                                                      nameWithoutHashCode("Luke"));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly(nameWithoutHashCode("Leia"));
+    assertThat(diff.unexpected).containsExactly(nameWithoutHashCode("Yoda"));
+  }
+
   private class Foo {
   }
 
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.NormalizingComparison.areEqualIgnoringNewLines;
+import static org.assertj.core.internal.NormalizingComparison.areEqualIgnoringWhitespace;
+import static org.assertj.core.internal.NormalizingComparison.areEqualNormalizingNewLines;
+import static org.assertj.core.internal.NormalizingComparison.areEqualNormalizingPunctuationAndWhitespace;
+import static org.assertj.core.internal.NormalizingComparison.areEqualNormalizingWhitespace;
+
+import org.junit.jupiter.api.Test;
+
+class NormalizingComparison_Test {
+
+  @Test
+  void should_compare_ignoring_whitespace() {
+    then(areEqualIgnoringWhitespace(" a b\tc\n", "abc")).isTrue();
+    then(areEqualIgnoringWhitespace("a b", "a-b")).isFalse();
+  }
+
+  @Test
+  void should_compare_normalizing_whitespace() {
+    then(areEqualNormalizingWhitespace("  a \t b\n", new StringBuilder("a b"))).isTrue();
+    then(areEqualNormalizingWhitespace("ab", "a b")).isFalse();
+    // like String.trim, leading and trailing control characters are removed
+    then(areEqualNormalizingWhitespace("\u0000a b\u0001", "a b")).isTrue();
+  }
+
+  @Test
+  void should_compare_normalizing_punctuation_and_whitespace() {
+    then(areEqualNormalizingPunctuationAndWhitespace("Hello, World !", "Hello World")).isTrue();
+    then(areEqualNormalizingPunctuationAndWhitespace("a . b", "a b")).isTrue();
+    then(areEqualNormalizingPunctuationAndWhitespace("a.b", "a b")).isFalse();
+  }
+
+  @Test
+  void should_compare_ignoring_or_normalizing_new_lines() {
+    then(areEqualIgnoringNewLines("a\r\nb\nc", "abc")).isTrue();
+    then(areEqualIgnoringNewLines("a\rb", "ab")).isFalse();
+    then(areEqualNormalizingNewLines("a\r\nb", "a\nb")).isTrue();
+    then(areEqualNormalizingNewLines("a\rb", "a\nb")).isFalse();
+  }
+
+  @Test
+  void should_compare_null_char_sequences() {
+    then(areEqualNormalizingWhitespace(null, null)).isTrue();
+    then(areEqualNormalizingWhitespace("a", null)).isFalse();
+    then(areEqualNormalizingWhitespace(null, "a")).isFalse();
+  }
+}
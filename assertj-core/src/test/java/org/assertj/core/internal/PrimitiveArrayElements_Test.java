@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Comparator.naturalOrder;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.PrimitiveArrayElements.canLookUpElementsOf;
+import static org.assertj.core.internal.PrimitiveArrayElements.elementsIn;
+import static org.assertj.core.internal.PrimitiveArrayElements.elementsInExcess;
+import static org.assertj.core.internal.PrimitiveArrayElements.elementsNotIn;
+import static org.assertj.core.internal.PrimitiveArrayElements.haveEqualElementsInOrder;
+
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveArrayElements_Test {
+
+  @Test
+  void should_look_up_elements_of_primitive_arrays_of_the_same_type_compared_with_the_standard_comparison_strategy() {
+    then(canLookUpElementsOf(StandardComparisonStrategy.instance(), new int[0], new int[0])).isTrue();
+    then(canLookUpElementsOf(StandardComparisonStrategy.instance(), new int[0], new long[0])).isFalse();
+    then(canLookUpElementsOf(StandardComparisonStrategy.instance(), new Integer[0], new Integer[0])).isFalse();
+    then(canLookUpElementsOf(new ComparatorBasedComparisonStrategy(naturalOrder()), new int[0], new int[0])).isFalse();
+  }
+
+  @Test
+  void should_find_elements_in_iteration_order() {
+    // GIVEN
+    int[] array = { 3, 1, 2, 1, 4 };
+    int[] otherArray = { 1, 4, 5 };
+    // WHEN/THEN
+    then(elementsNotIn(array, otherArray)).containsExactly(3, 2);
+    then(elementsIn(array, otherArray)).containsExactly(1, 1, 4);
+  }
+
+  @Test
+  void should_find_elements_in_excess_matching_each_other_element_once() {
+    // GIVEN
+    char[] array = { 'a', 'b', 'a', 'c', 'a' };
+    char[] otherArray = { 'a', 'c', 'a', 'd' };
+    // WHEN/THEN
+    then(elementsInExcess(array, otherArray)).containsExactly('b', 'a');
+    then(elementsInExcess(otherArray, array)).containsExactly('d');
+  }
+
+  @Test
+  void should_compare_floating_point_elements_like_their_boxed_values() {
+    // GIVEN
+    double[] array = { Double.NaN, 0.0, -0.0 };
+    double[] otherArray = { Double.NaN, 0.0 };
+    // WHEN/THEN
+    then(elementsNotIn(array, otherArray)).containsExactly(-0.0);
+    then(elementsInExcess(otherArray, array)).isEmpty();
+    then(haveEqualElementsInOrder(new float[] { Float.NaN }, new float[] { Float.NaN })).isTrue();
+    then(haveEqualElementsInOrder(new float[] { 0.0f }, new float[] { -0.0f })).isFalse();
+  }
+
+  @Test
+  void should_compare_elements_in_order() {
+    then(haveEqualElementsInOrder(new long[] { 1, 2 }, new long[] { 1, 2 })).isTrue();
+    then(haveEqualElementsInOrder(new long[] { 1, 2 }, new long[] { 2, 1 })).isFalse();
+    then(haveEqualElementsInOrder(new boolean[] { true }, new boolean[] { true, false })).isFalse();
+  }
+}
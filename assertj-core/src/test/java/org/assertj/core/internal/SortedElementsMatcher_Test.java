@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.SortedElementsMatcher.sortedElementsMatcher;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.ComparatorFactory;
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.util.DoubleComparator;
+import org.junit.jupiter.api.Test;
+
+class SortedElementsMatcher_Test {
+
+  private final ComparisonStrategy caseInsensitiveComparisonStrategy = new ComparatorBasedComparisonStrategy(
+      String.CASE_INSENSITIVE_ORDER);
+
+  @Test
+  void should_match_equal_elements_in_iteration_order() {
+    // GIVEN
+    List<String> actual = list("a", "B", "A", "c", "a");
+    List<String> expected = list("b", "A", "d", "b");
+    // WHEN
+    SortedElementsMatcher<String> matcher = sortedElementsMatcher(caseInsensitiveComparisonStrategy, actual, expected).get();
+    // THEN
+    then(matcher.actualElementsInExcess()).containsExactly("A", "c", "a");
+    then(matcher.expectedElementsInExcess()).containsExactly("d", "b");
+  }
+
+  @Test
+  void should_find_elements_without_any_equal_element() {
+    // GIVEN
+    List<String> actual = list("a", "B", "A", "c", "a");
+    List<String> expected = list("b", "A", "d", "b");
+    // WHEN
+    SortedElementsMatcher<String> matcher = sortedElementsMatcher(caseInsensitiveComparisonStrategy, actual, expected).get();
+    // THEN
+    then(matcher.actualElementsNotExpected()).containsExactly("c");
+    then(matcher.expectedElementsNotFound()).containsExactly("d");
+  }
+
+  @Test
+  void should_not_match_elements_compared_with_the_standard_comparison_strategy() {
+    // WHEN
+    Optional<SortedElementsMatcher<String>> matcher = sortedElementsMatcher(StandardComparisonStrategy.instance(),
+                                                                            list("a"), list("a"));
+    // THEN
+    then(matcher).isEmpty();
+  }
+
+  @Test
+  void should_not_match_null_elements() {
+    // WHEN
+    Optional<SortedElementsMatcher<String>> matcher = sortedElementsMatcher(caseInsensitiveComparisonStrategy,
+                                                                            list("a", null), list("a"));
+    // THEN
+    then(matcher).isEmpty();
+  }
+
+  @Test
+  void should_not_match_elements_with_a_comparator_that_does_not_order_them() {
+    // GIVEN
+    Comparator<String> equalityComparator = (s1, s2) -> s1.equalsIgnoreCase(s2) ? 0 : 1;
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(equalityComparator);
+    // WHEN
+    Optional<SortedElementsMatcher<String>> matcher = sortedElementsMatcher(comparisonStrategy, list("a", "b", "c"),
+                                                                            list("c", "b", "a"));
+    // THEN
+    then(matcher).isEmpty();
+  }
+
+  @Test
+  void should_not_match_elements_with_a_non_transitive_comparator() {
+    // GIVEN
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(new DoubleComparator(0.1));
+    // WHEN
+    Optional<SortedElementsMatcher<Double>> matcher = sortedElementsMatcher(comparisonStrategy, list(1.0, 1.15), list(1.08));
+    // THEN
+    then(matcher).isEmpty();
+  }
+
+  @Test
+  void should_not_match_elements_with_a_comparator_with_precision() {
+    // GIVEN
+    Comparator<Double> comparator = ComparatorFactory.INSTANCE.doubleComparatorWithPrecision(0.1);
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(comparator);
+    // WHEN
+    Optional<SortedElementsMatcher<Double>> matcher = sortedElementsMatcher(comparisonStrategy, list(1.0, 1.15), list(1.08));
+    // THEN
+    then(matcher).isEmpty();
+  }
+
+  @Test
+  void should_match_elements_with_a_user_comparator() {
+    // GIVEN
+    Comparator<Integer> comparator = Integer::compare;
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(comparator);
+    // WHEN
+    Optional<SortedElementsMatcher<Integer>> matcher = sortedElementsMatcher(comparisonStrategy, list(3, 1, 2), list(2, 4));
+    // THEN
+    then(matcher).hasValueSatisfying(value -> {
+      then(value.actualElementsNotExpected()).containsExactly(3, 1);
+      then(value.expectedElementsNotFound()).containsExactly(4);
+    });
+  }
+
+  @Test
+  void should_not_match_elements_not_equal_to_themselves() {
+    // GIVEN
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy((o1, o2) -> 1);
+    // WHEN
+    Optional<SortedElementsMatcher<String>> matcher = sortedElementsMatcher(comparisonStrategy, list("a"), list("a"));
+    // THEN
+    then(matcher).isEmpty();
+  }
+}
@@ -95,6 +95,30 @@ class TypeComparators_Test {
     assertThat(i5).isNull();
   }
 
+  @Test
+  void should_return_comparator_registered_after_a_lookup() {
+    Comparator<Bar> barComparator = newComparator();
+    Comparator<Foo> fooComparator = newComparator();
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isNull();
+    typeComparators.registerComparator(Bar.class, barComparator);
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isEqualTo(barComparator);
+    typeComparators.registerComparator(Foo.class, fooComparator);
+
+    Comparator<?> foo = typeComparators.getComparatorForType(Foo.class);
+    assertThat(foo).isEqualTo(fooComparator);
+  }
+
+  @Test
+  void should_find_no_comparator_after_clear() {
+    Comparator<Foo> fooComparator = newComparator();
+    typeComparators.registerComparator(Foo.class, fooComparator);
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isEqualTo(fooComparator);
+
+    typeComparators.clear();
+
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isNull();
+  }
+
   @Test
   void should_be_empty() {
     typeComparators.clear();
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.util.Files;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(java.io.File, java.io.File)}</code>.
+ */
+class BinaryDiff_diff_File_File_Test {
+
+  private static BinaryDiff binaryDiff;
+
+  @BeforeAll
+  static void setUpOnce() {
+    binaryDiff = new BinaryDiff();
+  }
+
+  private File actual;
+  private File expected;
+
+  @BeforeEach
+  void setUp() {
+    actual = Files.newTemporaryFile();
+    actual.deleteOnExit();
+    expected = Files.newTemporaryFile();
+    expected.deleteOnExit();
+  }
+
+  @Test
+  void should_return_no_diff_if_files_have_equal_content() throws IOException {
+    write(actual, "test");
+    write(expected, "test");
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_files_differ_on_one_byte() throws IOException {
+    write(actual, "test");
+    write(expected, "fest");
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(0);
+    assertThat(result.actual).isEqualTo("0x74");
+    assertThat(result.expected).isEqualTo("0x66");
+  }
+
+  @Test
+  void should_return_diff_if_files_differ_after_many_equal_bytes() throws IOException {
+    write(actual, "a".repeat(100_000) + "b");
+    write(expected, "a".repeat(100_000) + "c");
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(100_000);
+    assertThat(result.actual).isEqualTo("0x62");
+    assertThat(result.expected).isEqualTo("0x63");
+  }
+
+  @Test
+  void should_return_diff_if_actual_is_shorter() throws IOException {
+    write(actual, "foo");
+    write(expected, "foobar");
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(3);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0x62");
+  }
+
+  @Test
+  void should_return_diff_if_expected_is_shorter() throws IOException {
+    write(actual, "foobar");
+    write(expected, "foo");
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(3);
+    assertThat(result.actual).isEqualTo("0x62");
+    assertThat(result.expected).isEqualTo("EOF");
+  }
+
+  private static void write(File file, String content) throws IOException {
+    java.nio.file.Files.writeString(file.toPath(), content);
+  }
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsNull;
 import static org.assertj.core.internal.iterables.SinglyIterableFactory.createSinglyIterable;
+import static org.assertj.core.testkit.NameWithoutHashCode.nameWithoutHashCode;
 import static org.assertj.core.testkit.ObjectArrays.emptyArray;
 import static org.assertj.core.testkit.TestData.someInfo;
 import static org.assertj.core.util.Arrays.array;
@@ -27,10 +28,13 @@ import static org.assertj.core.util.Lists.list;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
+import org.assertj.core.util.DoubleComparator;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -75,6 +79,12 @@ class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
     iterables.assertContainsOnly(someInfo(), actual, emptyArray());
   }
 
+  @Test
+  void should_pass_if_actual_contains_given_values_only_overriding_equals_but_not_hashCode() {
+    iterables.assertContainsOnly(someInfo(), list(nameWithoutHashCode("Luke"), nameWithoutHashCode("Yoda")),
+                                 array(nameWithoutHashCode("Yoda"), nameWithoutHashCode("Luke")));
+  }
+
   @Test
   void should_fail_if_array_of_values_to_look_for_is_empty_and_actual_is_not() {
     // GIVEN
@@ -183,6 +193,28 @@ class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldContainOnly(actual, expected, list("Han"), list("Leia"), comparisonStrategy));
   }
 
+  @Test
+  void should_pass_if_actual_contains_given_values_only_according_to_a_non_transitive_comparison_strategy() {
+    // GIVEN
+    Iterables iterablesWithPrecision = new Iterables(new ComparatorBasedComparisonStrategy(new DoubleComparator(0.1)));
+    // WHEN/THEN
+    iterablesWithPrecision.assertContainsOnly(someInfo(), list(1.0, 1.15), array(1.08));
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_contain_given_values_only_according_to_a_non_transitive_comparison_strategy() {
+    // GIVEN
+    ComparatorBasedComparisonStrategy precisionStrategy = new ComparatorBasedComparisonStrategy(new DoubleComparator(0.1));
+    Iterables iterablesWithPrecision = new Iterables(precisionStrategy);
+    List<Double> actual = list(1.0, 1.08);
+    Object[] expected = { 0.95 };
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> iterablesWithPrecision.assertContainsOnly(info, actual, expected));
+    // THEN
+    then(assertionError).hasMessage(shouldContainOnly(actual, expected, list(), list(1.08),
+                                                      precisionStrategy).create(info.description(), info.representation()));
+  }
+
   @Test
   void should_pass_if_nonrestartable_actual_contains_only_given_values() {
     iterables.assertContainsOnly(someInfo(), createSinglyIterable(actual), array("Luke", "Yoda", "Leia"));
@@ -20,9 +20,11 @@ import static org.assertj.core.error.ShouldSatisfy.shouldSatisfyExactlyInAnyOrde
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.assertj.core.internal.IterablesBaseTest;
@@ -76,7 +78,7 @@ class Iterables_assertSatisfiesExactlyInAnyOrder_Test extends IterablesBaseTest
                                                                                                                 consumer2,
                                                                                                                 consumer3)));
     // THEN
-    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual).create());
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual, list(0)).create());
   }
 
   @Test
@@ -91,7 +93,7 @@ class Iterables_assertSatisfiesExactlyInAnyOrder_Test extends IterablesBaseTest
                                                                                                                 consumer2,
                                                                                                                 consumer3)));
     // THEN
-    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual).create());
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual, list(1)).create());
   }
 
   @Test
@@ -106,7 +108,46 @@ class Iterables_assertSatisfiesExactlyInAnyOrder_Test extends IterablesBaseTest
                                                                                                                 consumer2,
                                                                                                                 consumer3)));
     // THEN
-    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual).create());
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual, list(2)).create());
+  }
+
+  @Test
+  void should_report_the_consumers_that_cannot_be_matched_to_distinct_elements() {
+    // GIVEN
+    List<Integer> numbers = newArrayList();
+    for (int i = 0; i < 20; i++) numbers.add(i);
+    // any element but 19 satisfies every consumer, there are way too many permutations to try them all
+    Consumer<Integer> lessThan19 = i -> assertThat(i).isLessThan(19);
+    Consumer<Integer>[] consumers = array(lessThan19, lessThan19, lessThan19, lessThan19, lessThan19, lessThan19, lessThan19,
+                                          lessThan19, lessThan19, lessThan19, lessThan19, lessThan19, lessThan19, lessThan19,
+                                          lessThan19, lessThan19, lessThan19, lessThan19, lessThan19, lessThan19);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> iterables.assertSatisfiesExactlyInAnyOrder(info, numbers,
+                                                                                                          consumers));
+    // THEN
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(numbers, list(19)).create());
+  }
+
+  @Test
+  void should_evaluate_each_consumer_once_per_element() {
+    // GIVEN
+    AtomicInteger evaluations = new AtomicInteger();
+    Consumer<String> consumer1 = s -> {
+      evaluations.incrementAndGet();
+      assertThat(s).contains("L");
+    };
+    Consumer<String> consumer2 = s -> {
+      evaluations.incrementAndGet();
+      assertThat(s).contains("e");
+    };
+    Consumer<String> consumer3 = s -> {
+      evaluations.incrementAndGet();
+      assertThat(s).hasSize(4);
+    };
+    // WHEN
+    iterables.assertSatisfiesExactlyInAnyOrder(info, actual, array(consumer1, consumer2, consumer3));
+    // THEN
+    then(evaluations).hasValue(9);
   }
 
   @Test
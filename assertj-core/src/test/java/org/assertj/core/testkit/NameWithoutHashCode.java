@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.testkit;
+
+/**
+ * Overrides {@code equals} but not {@code hashCode}, equal names have different hash codes.
+ */
+public class NameWithoutHashCode {
+
+  private final String value;
+
+  public NameWithoutHashCode(String value) {
+    this.value = value;
+  }
+
+  public static NameWithoutHashCode nameWithoutHashCode(String value) {
+    return new NameWithoutHashCode(value);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof NameWithoutHashCode name && value.equals(name.value);
+  }
+
+  @Override
+  public String toString() {
+    return value;
+  }
+}
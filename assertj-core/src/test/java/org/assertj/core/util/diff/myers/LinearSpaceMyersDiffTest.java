@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+class LinearSpaceMyersDiffTest {
+
+  @Test
+  void should_find_no_differences_between_equal_lists() {
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(list("aaa", "bbb"), list("aaa", "bbb"));
+    // THEN
+    assertThat(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  void should_find_insert_delete_and_change_deltas() {
+    // GIVEN
+    List<String> original = list("aaa", "bbb", "ccc", "ddd", "eee", "fff");
+    List<String> revised = list("aaa", "zzz", "ccc", "eee", "fff", "ggg");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, list("bbb")), new Chunk<>(1, list("zzz"))),
+                                                  new DeleteDelta<>(new Chunk<>(3, list("ddd")), new Chunk<>(3, emptyList())),
+                                                  new InsertDelta<>(new Chunk<>(6, emptyList()), new Chunk<>(5, list("ggg"))));
+    assertThat(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  @Test
+  void should_find_few_differences_between_large_lists() {
+    // GIVEN
+    List<String> original = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      original.add("line " + i);
+    }
+    List<String> revised = new ArrayList<>(original);
+    revised.set(10, "changed");
+    revised.add(50_000, "inserted");
+    revised.remove(90_000);
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).hasSize(3);
+    assertThat(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  @Test
+  void should_report_a_single_change_when_there_are_more_differences_than_the_maximum() {
+    // GIVEN
+    List<String> original = list("aaa", "bbb", "ccc", "ddd", "eee", "fff");
+    List<String> revised = list("aaa", "ccc", "bbb", "eee", "ddd", "fff");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>(1).diff(original, revised);
+    // THEN
+    List<Delta<String>> deltas = patch.getDeltas();
+    assertThat(deltas).containsExactly(new ChangeDelta<>(new Chunk<>(1, list("bbb", "ccc", "ddd", "eee")),
+                                                         new Chunk<>(1, list("ccc", "bbb", "eee", "ddd"))));
+  }
+}
@@ -150,6 +150,32 @@ class FieldSupport_fieldValues_Test {
     assertThat(fieldSupport.fieldValue("sampleChar", char.class, object)).isEqualTo(object.sampleChar);
   }
 
+  @Test
+  void should_extract_field_hiding_superclass_field() {
+    SubSampleObject object = new SubSampleObject();
+    assertThat(fieldSupport.fieldValue("name", String.class, object)).isEqualTo("sub");
+    assertThat(fieldSupport.fieldValue("superName", String.class, object)).isEqualTo("super");
+  }
+
+  @Test
+  void should_throw_error_if_field_hiding_superclass_field_is_static() {
+    assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> fieldSupport.fieldValue("name", String.class,
+                                                                                                  new StaticNameSampleObject()));
+  }
+
+  static class SuperSampleObject {
+    final String name = "super";
+    final String superName = "super";
+  }
+
+  static class SubSampleObject extends SuperSampleObject {
+    final String name = "sub";
+  }
+
+  static class StaticNameSampleObject extends SuperSampleObject {
+    static final String name = "static";
+  }
+
   static class SampleObject {
     final byte sampleByte = 1;
     final short sampleShort = 1;
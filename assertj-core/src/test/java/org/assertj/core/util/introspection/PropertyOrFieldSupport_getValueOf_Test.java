@@ -171,6 +171,17 @@ class PropertyOrFieldSupport_getValueOf_Test {
     then(thrown).isInstanceOf(IntrospectionError.class);
   }
 
+  @Test
+  void should_invoke_property_getter_only_once() {
+    // GIVEN
+    CountingAgeEmployee employee = new CountingAgeEmployee();
+    // WHEN
+    Object value = underTest.getValueOf("age", employee);
+    // THEN
+    then(value).isEqualTo(0);
+    then(employee.ageInvocations).isEqualTo(1);
+  }
+
   @Test
   void should_throw_exception_if_no_object_is_given() {
     // WHEN
@@ -289,4 +300,14 @@ class PropertyOrFieldSupport_getValueOf_Test {
     public void getCity() {}
   }
 
+  static class CountingAgeEmployee extends Employee {
+    int ageInvocations;
+
+    @Override
+    public int getAge() {
+      ageInvocations++;
+      return super.getAge();
+    }
+  }
+
 }
@@ -60,6 +60,24 @@ class RecursiveAssertionDriver_RecursionTest extends AbstractRecursiveAssertionD
     thenNoException().isThrownBy(() -> objectUnderTest.assertOverObjectGraph(boomOnOveruse, objectTree));
   }
 
+  @Test
+  void should_visit_every_distinct_node_once() {
+    // GIVEN
+    RecursiveAssertionDriver objectUnderTest = testSubjectWithDefaultConfiguration();
+    Leaf[] leaves = new Leaf[400_000];
+    for (int i = 0; i < leaves.length; i++) {
+      // enough distinct leaves to get identity hash code collisions, each leaf appears twice in a row
+      // and must only be visited the first time
+      leaves[i] = i % 2 == 0 ? new Leaf() : leaves[i - 1];
+    }
+    ClassWithLeaves objectTree = new ClassWithLeaves(leaves);
+    AtomicInteger calls = new AtomicInteger();
+    // WHEN
+    objectUnderTest.assertOverObjectGraph(node -> calls.incrementAndGet() > 0, objectTree);
+    // THEN
+    then(calls).hasValue(leaves.length / 2);
+  }
+
   private Predicate<Object> predicateThatThrowsWhenCalledTooOften(int maxCalls) {
     AtomicInteger callLimit = new AtomicInteger(maxCalls - 1);
     return o -> {
@@ -68,4 +86,15 @@ class RecursiveAssertionDriver_RecursionTest extends AbstractRecursiveAssertionD
       return false;
     };
   }
+
+  static class ClassWithLeaves {
+    final Leaf[] leaves;
+
+    ClassWithLeaves(Leaf[] leaves) {
+      this.leaves = leaves;
+    }
+  }
+
+  static class Leaf {
+  }
 }
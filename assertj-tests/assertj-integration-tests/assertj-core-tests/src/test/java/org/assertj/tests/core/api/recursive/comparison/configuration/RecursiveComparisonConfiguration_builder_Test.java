@@ -389,6 +389,23 @@ class RecursiveComparisonConfiguration_builder_Test {
     then(configuration.getIntrospectionStrategy()).isSameAs(myIntrospectionStrategy);
   }
 
+  @Test
+  void should_set_parallelism() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withParallelism(4).build();
+    // THEN
+    then(configuration.getParallelism()).isEqualTo(4);
+  }
+
+  @Test
+  void should_fail_if_parallelism_is_not_greater_than_zero() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> configBuilder().withParallelism(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("The parallelism must be greater than 0 but was 0");
+  }
+
   @Test
   void should_set_the_standard_representation_if_none_is_set() {
     // WHEN
@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison.fields;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.tests.core.api.recursive.data.FriendlyPerson.friend;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.tests.core.api.recursive.data.FriendlyPerson;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrderMatchingBy_Test
+    extends WithComparingFieldsIntrospectionStrategyBaseTest {
+
+  @Test
+  void should_pass_when_elements_matched_by_key_have_the_same_data() {
+    // GIVEN
+    FriendlyPerson actual = friend("Sherlock Holmes");
+    FriendlyPerson actualFriend = friend("Dr. John Watson");
+    actualFriend.friends.add(friend("D.I. Greg Lestrade"));
+    actualFriend.friends.add(friend("Mrs. Hudson"));
+    actual.friends.add(actualFriend);
+    actual.friends.add(friend("Molly Hooper"));
+
+    FriendlyPerson expected = friend("Sherlock Holmes");
+    expected.friends.add(friend("Molly Hooper"));
+    FriendlyPerson expectedFriend = friend("Dr. John Watson");
+    expectedFriend.friends.add(friend("Mrs. Hudson"));
+    expectedFriend.friends.add(friend("D.I. Greg Lestrade"));
+    expected.friends.add(expectedFriend);
+
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .ignoringCollectionOrderMatchingBy(person -> person.name, FriendlyPerson.class)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_and_report_unmatched_expected_and_actual_elements() {
+    // GIVEN
+    FriendlyPerson actual = friend("Sherlock Holmes");
+    actual.friends.add(friend("Dr. John Watson"));
+    actual.friends.add(friend("Molly Hooper"));
+
+    FriendlyPerson expected = friend("Sherlock Holmes");
+    expected.friends.add(friend("Molly Hooper"));
+    expected.friends.add(friend("D.I. Greg Lestrade"));
+
+    recursiveComparisonConfiguration.ignoreCollectionOrderMatchingBy(person -> person.name, FriendlyPerson.class);
+
+    // WHEN/THEN
+    ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends,
+                                                  format("The following expected elements were not matched in the actual ArrayList:%n"
+                                                         + "  [Person [dateOfBirth=null, name=D.I. Greg Lestrade, phone=null, home=Home [address=Address [number=1]]]]%n"
+                                                         + "The following actual elements were not matched in the expected ArrayList:%n"
+                                                         + "  [Person [dateOfBirth=null, name=Dr. John Watson, phone=null, home=Home [address=Address [number=1]]]]"));
+    compareRecursivelyFailsWithDifferences(actual, expected, friendsDifference);
+  }
+
+  @Test
+  void should_not_compare_elements_with_different_keys() {
+    // GIVEN
+    FriendlyPerson actual = friend("Sherlock Holmes");
+    actual.friends.add(friend("Dr. John Watson"));
+    actual.friends.add(friend("Molly Hooper"));
+
+    FriendlyPerson expected = friend("Sherlock Holmes");
+    expected.friends.add(friend("Molly Hooper"));
+    expected.friends.add(friend("D.I. Greg Lestrade"));
+    // WHEN
+    // friends names are ignored in the comparison, but they still are the matching key
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                                 .ignoringFields("friends.name")
+                                                                                 .ignoringCollectionOrderMatchingBy(person -> person.name, FriendlyPerson.class)
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("name=D.I. Greg Lestrade")
+                        .hasMessageContaining("name=Dr. John Watson");
+  }
+
+  @Test
+  void should_match_null_elements_by_a_null_key() {
+    // GIVEN
+    FriendlyPerson actual = friend("Sherlock Holmes");
+    actual.friends.add(null);
+    actual.friends.add(friend("Molly Hooper"));
+
+    FriendlyPerson expected = friend("Sherlock Holmes");
+    expected.friends.add(friend("Molly Hooper"));
+    expected.friends.add(null);
+
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .ignoringCollectionOrderMatchingBy(person -> person.name, FriendlyPerson.class)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_match_elements_by_hash_code_when_the_matching_key_does_not_apply_to_them() {
+    // GIVEN
+    List<String> actual = list("a", "b");
+    List<String> expected = list("b", "a");
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .ignoringCollectionOrderMatchingBy(person -> person.name, FriendlyPerson.class)
+                .isEqualTo(expected);
+  }
+
+}
@@ -163,6 +163,8 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
     // WHEN/THEN
     ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends,
                                                   format("The following expected elements were not matched in the actual ArrayList:%n"
+                                                         + "  [Person [dateOfBirth=null, name=Dr. John Watson, phone=null, home=Home [address=Address [number=1]]]]%n"
+                                                         + "The following actual elements were not matched in the expected ArrayList:%n"
                                                          + "  [Person [dateOfBirth=null, name=Dr. John Watson, phone=null, home=Home [address=Address [number=1]]]]"));
     compareRecursivelyFailsWithDifferences(actual, expected, friendsDifference);
   }
@@ -232,6 +234,8 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
     // WHEN/THEN
     ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends,
                                                   format("The following expected elements were not matched in the actual ArrayList:%n"
+                                                         + "  [Person [dateOfBirth=null, name=Dr. John Watson, phone=null, home=Home [address=Address [number=1]]]]%n"
+                                                         + "The following actual elements were not matched in the expected ArrayList:%n"
                                                          + "  [Person [dateOfBirth=null, name=Dr. John Watson, phone=null, home=Home [address=Address [number=1]]]]"));
     compareRecursivelyFailsWithDifferences(actual, expected, friendsDifference);
   }
@@ -126,15 +126,21 @@ class RecursiveComparisonAssert_isEqualTo_with_iterables_Test extends WithCompar
                                   // pair of different elements, this is why actual and expected are set and not element values.
                                   Arguments.of(pratchettHashSet, newHashSet(none), "group",
                                                pratchettHashSet, newHashSet(none),
-                                               "The following expected elements were not matched in the actual HashSet:%n  [null]".formatted()),
+                                               format("The following expected elements were not matched in the actual HashSet:%n  [null]%n"
+                                                      + "The following actual elements were not matched in the expected HashSet:%n"
+                                                      + "  [Author [name=Terry Pratchett]]")),
                                   Arguments.of(newHashSet(none), pratchettHashSet, "group",
                                                newHashSet(none), pratchettHashSet,
                                                format("The following expected elements were not matched in the actual HashSet:%n"
-                                                      + "  [Author [name=Terry Pratchett]]")),
+                                                      + "  [Author [name=Terry Pratchett]]%n"
+                                                      + "The following actual elements were not matched in the expected HashSet:%n"
+                                                      + "  [null]")),
                                   Arguments.of(pratchettHashSet, newHashSet(georgeMartin), "group",
                                                pratchettHashSet, newHashSet(georgeMartin),
                                                format("The following expected elements were not matched in the actual HashSet:%n"
-                                                      + "  [Author [name=George Martin]]")),
+                                                      + "  [Author [name=George Martin]]%n"
+                                                      + "The following actual elements were not matched in the expected HashSet:%n"
+                                                      + "  [Author [name=Terry Pratchett]]")),
                                   Arguments.of(authorsTreeSet(pratchett, georgeMartin), authorsTreeSet(pratchett), "group",
                                                authorsTreeSet(pratchett, georgeMartin), authorsTreeSet(pratchett),
                                                "actual and expected values are collections of different size, actual size=2 when expected size=1"),
@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison.legacy;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.api.recursive.data.FriendlyPerson.friend;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.tests.core.api.recursive.data.FriendlyPerson;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_inParallel_Test extends WithLegacyIntrospectionStrategyBaseTest {
+
+  private static final int FRIENDS_COUNT = 200;
+
+  @Test
+  void should_pass_when_large_graphs_are_equal() {
+    // GIVEN
+    FriendlyPerson actual = sherlockWithFriends(i -> "friend " + i);
+    FriendlyPerson expected = sherlockWithFriends(i -> "friend " + i);
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                .inParallel()
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_report_the_same_differences_as_the_sequential_comparison() {
+    // GIVEN
+    FriendlyPerson actual = sherlockWithFriends(i -> "friend " + i);
+    FriendlyPerson expected = sherlockWithFriends(i -> i % 7 == 0 ? "other friend " + i : "friend " + i);
+    List<ComparisonDifference> sequentialDifferences = determineDifferences(actual, expected);
+    // WHEN
+    recursiveComparisonConfiguration.setParallelism(4);
+    List<ComparisonDifference> parallelDifferences = determineDifferences(actual, expected);
+    // THEN
+    then(parallelDifferences).isNotEmpty()
+                             .containsExactlyElementsOf(sequentialDifferences);
+  }
+
+  @Test
+  void should_report_the_same_differences_as_the_sequential_comparison_when_subtrees_share_nodes() {
+    // GIVEN
+    FriendlyPerson actual = sherlockWithFriends(i -> "friend " + i);
+    FriendlyPerson expected = sherlockWithFriends(i -> "friend " + i);
+    // the same friend is visited from different subtrees, only its first visit reports its differences
+    FriendlyPerson sharedActualFriend = friend("Mrs. Hudson");
+    FriendlyPerson sharedExpectedFriend = friend("Mrs Hudson");
+    actual.friends.forEach(friend -> friend.friends.add(sharedActualFriend));
+    expected.friends.forEach(friend -> friend.friends.add(sharedExpectedFriend));
+    List<ComparisonDifference> sequentialDifferences = determineDifferences(actual, expected);
+    // WHEN
+    recursiveComparisonConfiguration.setParallelism(4);
+    List<ComparisonDifference> parallelDifferences = determineDifferences(actual, expected);
+    // THEN
+    then(parallelDifferences).hasSize(1)
+                             .containsExactlyElementsOf(sequentialDifferences);
+  }
+
+  private List<ComparisonDifference> determineDifferences(FriendlyPerson actual, FriendlyPerson expected) {
+    return new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                              recursiveComparisonConfiguration);
+  }
+
+  private static FriendlyPerson sherlockWithFriends(IntFunction<String> friendName) {
+    FriendlyPerson sherlock = friend("Sherlock Holmes");
+    for (int i = 0; i < FRIENDS_COUNT; i++) {
+      FriendlyPerson friend = friend(friendName.apply(i));
+      friend.friends.add(friend("friend of " + i));
+      sherlock.friends.add(friend);
+    }
+    return sherlock;
+  }
+
+}
@@ -31,6 +31,10 @@ class FieldLocation_Test {
   void should_honor_equals_contract() {
     // WHEN/THEN
     EqualsVerifier.forClass(FieldLocation.class)
+                  .withPrefabValues(FieldLocation.class, new FieldLocation("red"), new FieldLocation("blue"))
+                  .withCachedHashCode("hashCode", "computeHashCode", new FieldLocation("name.first"))
+                  .withIgnoredFields("depth", "pathToUseInRulesElementsCount", "decomposedPath", "pathToUseInRules",
+                                     "pathsHierarchyToUseInRules")
                   .verify();
   }
 
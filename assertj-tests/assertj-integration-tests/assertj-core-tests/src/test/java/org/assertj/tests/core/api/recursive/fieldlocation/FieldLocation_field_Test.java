@@ -13,8 +13,12 @@
 package org.assertj.tests.core.api.recursive.fieldlocation;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.util.Lists.list;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.assertj.core.api.recursive.comparison.FieldLocation;
 import org.junit.jupiter.api.Test;
 
@@ -43,4 +47,46 @@ class FieldLocation_field_Test {
     then(childFieldLocation.getPathToUseInRules()).isEqualTo("person.children.name");
     then(childFieldLocation.getFieldName()).isEqualTo("name");
   }
+
+  @Test
+  void should_build_the_same_field_location_as_the_one_built_from_the_whole_path() {
+    // GIVEN
+    FieldLocation expected = new FieldLocation(list("person", "[0]", "children", "[2]", "name"));
+    // WHEN
+    FieldLocation fieldLocation = rootFieldLocation().field("person").field("[0]").field("children").field("[2]").field("name");
+    // THEN
+    then(fieldLocation).isEqualTo(expected)
+                       .hasSameHashCodeAs(expected);
+    then(fieldLocation.getPathToUseInRules()).isEqualTo("person.children.name");
+    then(fieldLocation.hierarchyMatches("person.children")).isTrue();
+    then(fieldLocation.hierarchyMatches("person.child")).isFalse();
+  }
+
+  @Test
+  void should_build_child_field_location_of_element_at_root() {
+    // GIVEN
+    FieldLocation elementFieldLocation = rootFieldLocation().field("[1]");
+    // WHEN
+    FieldLocation childFieldLocation = elementFieldLocation.field("name");
+    // THEN
+    then(elementFieldLocation.isRoot()).isTrue();
+    then(childFieldLocation.getPathToUseInRules()).isEqualTo("name");
+    then(childFieldLocation.isTopLevelField()).isTrue();
+  }
+
+  @Test
+  void should_build_paths_of_deeply_nested_field_location() {
+    // GIVEN
+    // array elements are not in the path to use in rules, which keeps it short
+    List<String> path = Stream.concat(Stream.generate(() -> "[0]").limit(100_000), Stream.of("name")).toList();
+    FieldLocation fieldLocation = rootFieldLocation();
+    // WHEN
+    for (String field : path) {
+      fieldLocation = fieldLocation.field(field);
+    }
+    // THEN
+    then(fieldLocation).isEqualTo(new FieldLocation(path));
+    then(fieldLocation.getDecomposedPath()).isEqualTo(path);
+    then(fieldLocation.getPathToUseInRules()).isEqualTo("name");
+  }
 }
@@ -79,6 +79,20 @@ class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  void should_return_diff_if_inputstreams_differ_after_many_equal_bytes() throws IOException {
+    byte[] actualContent = new byte[100_000];
+    byte[] expectedContent = new byte[100_000];
+    expectedContent[50_000] = (byte) 0xCA;
+    actual = new ByteArrayInputStream(actualContent);
+    expected = new ByteArrayInputStream(expectedContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.offset).isEqualTo(50_000);
+    assertThat(result.actual).isEqualTo("0x0");
+    assertThat(result.expected).isEqualTo("0xCA");
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
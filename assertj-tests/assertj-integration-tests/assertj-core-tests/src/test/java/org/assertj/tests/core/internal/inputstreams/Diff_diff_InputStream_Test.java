@@ -19,6 +19,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import org.assertj.core.internal.Diff;
@@ -119,4 +120,24 @@ class Diff_diff_InputStream_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 1:%n"
                                                 + "  [\"\"]%n"));
   }
+
+  @Test
+  void should_return_diffs_at_the_right_line_after_many_equal_lines() throws IOException {
+    String[] actualLines = new String[10_002];
+    Arrays.fill(actualLines, "line");
+    actualLines[10_000] = "line_0";
+    actualLines[10_001] = "line_1";
+    String[] expectedLines = Arrays.copyOf(actualLines, 10_001);
+    expectedLines[10_000] = "line0";
+    actual = stream(actualLines);
+    expected = stream(expectedLines);
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 10001:%n"
+                                                + "expecting:%n"
+                                                + "  [\"line0\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"line_0\",%n"
+                                                + "   \"line_1\"]%n"));
+  }
 }
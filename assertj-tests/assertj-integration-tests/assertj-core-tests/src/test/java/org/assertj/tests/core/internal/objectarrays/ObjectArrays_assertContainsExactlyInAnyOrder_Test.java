@@ -20,6 +20,7 @@ import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsNull;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.tests.core.testkit.NameWithoutHashCode.nameWithoutHashCode;
 import static org.assertj.tests.core.util.AssertionsUtil.assertThatAssertionErrorIsThrownBy;
 import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
 import static org.mockito.Mockito.verify;
@@ -44,6 +45,12 @@ class ObjectArrays_assertContainsExactlyInAnyOrder_Test extends ObjectArraysBase
                                            array("Leia", null, "Yoda", "Luke"));
   }
 
+  @Test
+  void should_pass_if_actual_contains_given_values_overriding_equals_but_not_hashCode() {
+    arrays.assertContainsExactlyInAnyOrder(INFO, array(nameWithoutHashCode("Luke"), nameWithoutHashCode("Yoda")),
+                                           array(nameWithoutHashCode("Yoda"), nameWithoutHashCode("Luke")));
+  }
+
   @Test
   void should_pass_if_actual_and_given_values_are_empty() {
     arrays.assertContainsExactlyInAnyOrder(INFO, array(), array());
@@ -18,6 +18,7 @@ import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsNull;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.tests.core.testkit.NameWithoutHashCode.nameWithoutHashCode;
 import static org.assertj.tests.core.testkit.ObjectArrays.emptyArray;
 import static org.assertj.tests.core.util.AssertionsUtil.assertThatAssertionErrorIsThrownBy;
 import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
@@ -51,6 +52,12 @@ class ObjectArrays_assertContainsOnly_Test extends ObjectArraysBaseTest {
     arrays.assertContainsOnly(INFO, actual, array("Luke", "Luke", "Luke", "Yoda", "Leia"));
   }
 
+  @Test
+  void should_pass_if_actual_contains_given_values_overriding_equals_but_not_hashCode() {
+    arrays.assertContainsOnly(INFO, array(nameWithoutHashCode("Luke"), nameWithoutHashCode("Yoda")),
+                              array(nameWithoutHashCode("Yoda"), nameWithoutHashCode("Luke")));
+  }
+
   @Test
   void should_pass_if_actual_and_given_values_are_empty() {
     arrays.assertContainsOnly(INFO, new String[0], emptyArray());
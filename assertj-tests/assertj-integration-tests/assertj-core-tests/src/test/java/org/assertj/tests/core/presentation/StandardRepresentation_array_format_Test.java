@@ -296,6 +296,21 @@ class StandardRepresentation_array_format_Test extends AbstractBaseRepresentatio
                                                                                                                     "    20]>"));
   }
 
+  @Test
+  void should_use_overridden_single_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Object[] array, Object root, int maxLength) {
+        return format(array, "<<", ">>", ELEMENT_SEPARATOR, " ", root, maxLength);
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(array("a", "b"));
+    // THEN
+    then(formatted).isEqualTo("<<\"a\", \"b\">>");
+  }
+
   private record Person(String name) {
 
     @Override
@@ -65,6 +65,17 @@ class StandardRepresentation_custom_formatter_Test {
     then(STANDARD_REPRESENTATION.toStringOf(intNumber)).isEqualTo("8");
   }
 
+  @Test
+  void should_use_formatter_registered_after_type_was_already_formatted() {
+    // GIVEN
+    Object intNumber = 8;
+    assertThat(STANDARD_REPRESENTATION.toStringOf(intNumber)).isEqualTo("8");
+    // WHEN
+    StandardRepresentation.registerFormatterForType(Integer.class, value -> "int(" + value + ")");
+    // THEN
+    then(STANDARD_REPRESENTATION.toStringOf(intNumber)).isEqualTo("int(8)");
+  }
+
   @Test
   void should_return_null_when_registered_formatter_returns_null() {
     // GIVEN
@@ -75,4 +86,26 @@ class StandardRepresentation_custom_formatter_Test {
     // THEN
     then(actual).isNull();
   }
+
+  @Test
+  void should_use_custom_formatter_of_representation_overriding_hasCustomFormatterFor() {
+    // GIVEN
+    Object string = "abc";
+    assertThat(STANDARD_REPRESENTATION.toStringOf(string)).isEqualTo("\"abc\"");
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected boolean hasCustomFormatterFor(Object object) {
+        return object instanceof String;
+      }
+
+      @Override
+      protected <T> String customFormat(T object) {
+        return "custom(" + object + ")";
+      }
+    };
+    // WHEN
+    String actual = representation.toStringOf(string);
+    // THEN
+    then(actual).isEqualTo("custom(abc)");
+  }
 }
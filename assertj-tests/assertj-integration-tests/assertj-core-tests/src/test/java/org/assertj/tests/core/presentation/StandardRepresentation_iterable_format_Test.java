@@ -272,6 +272,21 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
     then(countMatches(formatted, "0")).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING * elementsPerArray);
   }
 
+  @Test
+  void should_use_overridden_single_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end, int maxLength) {
+        return super.singleLineFormat(iterable, "<<", ">>", maxLength);
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(list("a", "b"));
+    // THEN
+    then(formatted).isEqualTo("<<\"a\", \"b\">>");
+  }
+
   private static String stringOfLength(int length) {
     return Stream.generate(() -> "a").limit(length).collect(joining());
   }
@@ -15,8 +15,12 @@ package org.assertj.tests.core.perf;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.junit.jupiter.api.Test;
@@ -51,13 +55,96 @@ class ContainsOnlyPerfTest {
 
   @Test
   @Timeout(value = 5)
-  void test_containsOnly_1mElements_usingCustomComparator() {
-    final ArrayList<Integer> objects = new ArrayList<>();
-    for (int i = 0; i < 1_000_000; i++) {
-      objects.add(ThreadLocalRandom.current().nextInt(2));
+  void test_containsOnly_200kDistinctElements_usingCustomComparator() {
+    List<Integer> ids = shuffledIds(200_000);
+    assertThat(ids).usingElementComparator(Integer::compare)
+                   .containsOnly(shuffledIds(200_000).toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_200kDistinctElements() {
+    List<Integer> ids = shuffledIds(200_000);
+    assertThat(ids).containsOnly(shuffledIds(200_000).toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_200kDistinctElements() {
+    List<Integer> ids = shuffledIds(200_000);
+    assertThat(ids).containsExactlyInAnyOrderElementsOf(shuffledIds(200_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactly_200kDistinctElements() {
+    List<Integer> ids = shuffledIds(200_000);
+    assertThat(ids).containsExactlyElementsOf(new ArrayList<>(ids));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_200kDistinctElements_usingCustomComparator() {
+    List<Integer> ids = shuffledIds(200_000);
+    assertThat(ids).usingElementComparator(Comparator.comparing(Integer::intValue))
+                   .containsExactlyInAnyOrderElementsOf(shuffledIds(200_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSubsetOf_200kDistinctElements_usingCustomComparator() {
+    List<Integer> ids = shuffledIds(200_000);
+    assertThat(ids).usingElementComparator((id1, id2) -> Integer.compare(id1, id2))
+                   .isSubsetOf(shuffledIds(200_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_1mDistinctLongs() {
+    long[] ids = shuffledLongIds(1_000_000);
+    assertThat(ids).containsOnly(shuffledLongIds(1_000_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_1mDistinctDoubles() {
+    double[] values = shuffledDoubles(1_000_000);
+    assertThat(values).containsExactlyInAnyOrder(shuffledDoubles(1_000_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_1mDistinctLongs() {
+    long[] ids = shuffledLongIds(1_000_000);
+    assertThat(ids).contains(shuffledLongIds(1_000_000));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_failure_message_1mElements() {
+    List<Integer> ids = shuffledIds(1_000_000);
+    List<Integer> otherIds = shuffledIds(1_000_000);
+    otherIds.set(0, -1);
+    AssertionError error = catchThrowableOfType(AssertionError.class,
+                                                () -> assertThat(ids).containsOnly(otherIds.toArray(new Integer[0])));
+    assertThat(error).hasMessageContaining("-1");
+  }
+
+  private static long[] shuffledLongIds(int count) {
+    return shuffledIds(count).stream().mapToLong(Integer::longValue).toArray();
+  }
+
+  private static double[] shuffledDoubles(int count) {
+    return shuffledIds(count).stream().mapToDouble(id -> id / 2.0).toArray();
+  }
+
+  private static List<Integer> shuffledIds(int count) {
+    List<Integer> ids = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ids.add(i);
     }
-    assertThat(objects).usingElementComparator(Integer::compare)
-                       .containsOnly(0, 1);
+    Collections.shuffle(ids);
+    return ids;
   }
 
 }
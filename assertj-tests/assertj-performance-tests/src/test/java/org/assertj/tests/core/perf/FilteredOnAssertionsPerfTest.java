@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure that evaluating assertions only to know whether elements pass them does not build the error messages of
+ * the failing elements, building them takes more than 10 seconds for 1 million elements while the assertions themselves are evaluated
+ * in less than a second.
+ */
+class FilteredOnAssertionsPerfTest {
+
+  @Test
+  @Timeout(value = 5)
+  void test_filteredOnAssertions_1mElements_failing_the_assertions() {
+    List<Integer> numbers = numbers(1_000_000);
+    assertThat(numbers).filteredOnAssertions(number -> assertThat(number).isEqualTo(42))
+                       .containsExactly(42);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_noneSatisfy_1mElements() {
+    List<Integer> numbers = numbers(1_000_000);
+    assertThat(numbers).noneSatisfy(number -> assertThat(number).isNegative());
+  }
+
+  private static List<Integer> numbers(int size) {
+    List<Integer> numbers = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      numbers.add(i);
+    }
+    return numbers;
+  }
+}
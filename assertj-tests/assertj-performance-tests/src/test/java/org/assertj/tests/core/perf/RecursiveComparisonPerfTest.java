@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure the recursive comparison of large object graphs is linear in the number of nodes.
+ * <p>
+ * The order books compared below have 50k orders, each order having a nested product, that's more than 100k visited nodes.
+ * Looking up visited nodes by scanning all the previously visited ones makes the comparison quadratic which takes minutes,
+ * a linear comparison takes well under a second, 5 seconds is thus a good threshold to detect a regression.
+ */
+class RecursiveComparisonPerfTest {
+
+  private static final int ORDERS_COUNT = 50_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_recursive_comparison_of_50k_nested_entries() {
+    assertThat(orderBook(ORDERS_COUNT)).usingRecursiveComparison()
+                                       .isEqualTo(orderBook(ORDERS_COUNT));
+  }
+
+  private static OrderBook orderBook(int ordersCount) {
+    OrderBook orderBook = new OrderBook();
+    for (int i = 0; i < ordersCount; i++) {
+      orderBook.orders.add(new Order(i, new Product("product-" + i, i % 100)));
+    }
+    return orderBook;
+  }
+
+  static class OrderBook {
+    final List<Order> orders = new ArrayList<>();
+  }
+
+  static class Order {
+    final long id;
+    final Product product;
+
+    Order(long id, Product product) {
+      this.id = id;
+      this.product = product;
+    }
+  }
+
+  static class Product {
+    final String name;
+    final int quantity;
+
+    Product(String name, int quantity) {
+      this.name = name;
+      this.quantity = quantity;
+    }
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the latency of the first soft assertion of each assert type, that is when its proxy class is either generated or
+ * loaded if assertj-core was built with the soft-proxies-aot profile.
+ * <p>
+ * Run it in its own JVM as the proxies of the assert types already used by other tests are cached.
+ */
+class SoftAssertionsFirstUsePerfTest {
+
+  @Disabled
+  @Test
+  void print_first_use_latency_per_assert_type() {
+    Map<String, Consumer<SoftAssertions>> firstUses = new LinkedHashMap<>();
+    firstUses.put("ObjectAssert", softly -> softly.assertThat(new Object()).isNotNull());
+    firstUses.put("StringAssert", softly -> softly.assertThat("foo").startsWith("f"));
+    firstUses.put("IntegerAssert", softly -> softly.assertThat(1).isPositive());
+    firstUses.put("LongAssert", softly -> softly.assertThat(1L).isPositive());
+    firstUses.put("BooleanAssert", softly -> softly.assertThat(true).isTrue());
+    firstUses.put("BigDecimalAssert", softly -> softly.assertThat(BigDecimal.ONE).isPositive());
+    firstUses.put("LocalDateAssert", softly -> softly.assertThat(LocalDate.now()).isNotNull());
+    firstUses.put("FileAssert", softly -> softly.assertThat(new File("foo")).hasName("foo"));
+    firstUses.put("PathAssert", softly -> softly.assertThat(Path.of("foo")).hasFileName("foo"));
+    firstUses.put("OptionalAssert", softly -> softly.assertThat(Optional.of(1)).isPresent());
+    firstUses.put("ListAssert", softly -> softly.assertThat(List.of(1, 2)).contains(1));
+    firstUses.put("MapAssert", softly -> softly.assertThat(Map.of(1, 2)).containsKey(1));
+    firstUses.put("ObjectArrayAssert", softly -> softly.assertThat(new String[] { "foo" }).contains("foo"));
+    firstUses.put("IntArrayAssert", softly -> softly.assertThat(new int[] { 1 }).contains(1));
+    firstUses.put("ThrowableAssert", softly -> softly.assertThat(new RuntimeException("boom")).hasMessage("boom"));
+    long total = 0;
+    for (Map.Entry<String, Consumer<SoftAssertions>> firstUse : firstUses.entrySet()) {
+      SoftAssertions softly = new SoftAssertions();
+      long start = System.nanoTime();
+      firstUse.getValue().accept(softly);
+      long duration = System.nanoTime() - start;
+      softly.assertAll();
+      total += duration;
+      System.out.println(firstUse.getKey() + " first use: " + NANOSECONDS.toMillis(duration) + "ms");
+    }
+    System.out.println("total first use time: " + NANOSECONDS.toMillis(total) + "ms");
+  }
+}